@@ -44,7 +44,8 @@ CREATE TABLE RefreshToken (
 CREATE TABLE Chat (
     chat_id INT NOT NULL AUTO_INCREMENT PRIMARY KEY,
     created_at DATETIME NOT NULL,
-    title VARCHAR(255) NOT NULL
+    title VARCHAR(255) NOT NULL,
+    member_count INT NOT NULL DEFAULT 0 COMMENT 'ChatMember 수 (비정규화)'
 ) ENGINE=InnoDB;
 
 -- FCM 토큰 테이블
@@ -133,6 +134,9 @@ CREATE TABLE ChatMember (
     chat_id INT NOT NULL,
     membership_id INT NOT NULL,
     is_owner BIT NOT NULL DEFAULT 0 COMMENT '1이면 방장, 0이면 참가자',
+    last_read_message_id VARCHAR(24) NULL COMMENT '마지막으로 읽은 메시지 ID (MongoDB)',
+    last_read_at DATETIME(3) NULL COMMENT '마지막으로 읽은 메시지 시간',
+    unread_count INT NOT NULL DEFAULT 0 COMMENT '안 읽은 메시지 수 (비정규화)',
     PRIMARY KEY (chat_id, membership_id),
     FOREIGN KEY (chat_id) REFERENCES Chat(chat_id),
     FOREIGN KEY (membership_id) REFERENCES User(membership_id)
@@ -144,6 +148,9 @@ CREATE TABLE PlannerDetail (
     planner_id INT NOT NULL,
     day INT NOT NULL,
     google_place_id VARCHAR(255) NOT NULL,
+    place_name VARCHAR(255) NULL,
+    latitude DOUBLE NULL COMMENT '장소 위도 (도착 알림용)',
+    longitude DOUBLE NULL COMMENT '장소 경도 (도착 알림용)',
     PRIMARY KEY (planner_order, planner_id),
     FOREIGN KEY (planner_id) REFERENCES Planner(planner_id)
 ) ENGINE=InnoDB;
@@ -158,6 +165,12 @@ CREATE TABLE PostAsset (
     FOREIGN KEY (post_id) REFERENCES Post(post_id)
 ) ENGINE=InnoDB;
 
+-- PostAsset.asset_id 발급용 시퀀스 테이블 (JPA 배치 INSERT를 위해 50개 단위로 할당)
+CREATE TABLE PostAsset_seq (
+    next_val BIGINT
+) ENGINE=InnoDB;
+INSERT INTO PostAsset_seq VALUES (1);
+
 -- 후기 게시글 첨부파일 테이블
 CREATE TABLE ReviewAsset (
 	asset_id INT NOT NULL AUTO_INCREMENT,
@@ -249,4 +262,24 @@ CREATE TABLE email_verifications (
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
 
 -- 최근 레코드 조회 성능 향상을 위한 인덱스
-CREATE INDEX idx_email_verifications_email ON email_verifications (email);
\ No newline at end of file
+CREATE INDEX idx_email_verifications_email ON email_verifications (email);
+
+-- 게시글 커서(keyset) 페이징용 인덱스 (created_at DESC, post_id DESC 순회)
+CREATE INDEX idx_post_created_at_post_id ON Post (created_at, post_id);
+
+
+-- 기존 DB 마이그레이션: Chat.member_count 추가 및 현재 멤버 수로 초기화
+-- ALTER TABLE Chat ADD COLUMN member_count INT NOT NULL DEFAULT 0;
+-- UPDATE Chat c SET c.member_count = (SELECT COUNT(*) FROM ChatMember cm WHERE cm.chat_id = c.chat_id);
+
+-- 기존 DB 마이그레이션: PostAsset 시퀀스 테이블 추가 (현재 최대 asset_id 다음 값부터 발급)
+-- allocationSize=50 pooled 옵티마이저는 읽은 값 V를 블록의 끝으로 보고 V-49..V를 발급하므로,
+-- MAX + 1로 시작하면 첫 블록이 기존 asset_id와 겹칩니다. 따라서 MAX + 50을 넣습니다.
+-- CREATE TABLE PostAsset_seq (next_val BIGINT) ENGINE=InnoDB;
+-- INSERT INTO PostAsset_seq SELECT COALESCE(MAX(asset_id), 0) + 50 FROM PostAsset;
+
+-- 기존 DB 마이그레이션: ChatMember 읽음 커서/안 읽은 메시지 수 추가 (기존 멤버는 0부터 시작)
+-- ALTER TABLE ChatMember ADD COLUMN last_read_message_id VARCHAR(24) NULL, ADD COLUMN last_read_at DATETIME(3) NULL, ADD COLUMN unread_count INT NOT NULL DEFAULT 0;
+
+-- 기존 DB 마이그레이션: 일정 장소 이름/좌표 추가 (기존 일정은 플래너를 다시 저장하면 채워짐)
+-- ALTER TABLE PlannerDetail ADD COLUMN place_name VARCHAR(255) NULL, ADD COLUMN latitude DOUBLE NULL, ADD COLUMN longitude DOUBLE NULL;
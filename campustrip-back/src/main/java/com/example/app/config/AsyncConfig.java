@@ -0,0 +1,17 @@
+package com.example.app.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+public class AsyncConfig {
+
+    // S3 업로드/삭제 등 I/O 대기 위주 작업용 (가상 스레드, 동시 실행 수는 호출 측에서 제한)
+    @Bean(destroyMethod = "close")
+    public ExecutorService ioExecutor() {
+        return Executors.newVirtualThreadPerTaskExecutor();
+    }
+}
@@ -2,7 +2,9 @@ package com.example.app.config;
 
 import com.example.app.dto.ChatMessageDTO;
 import com.example.app.dto.LocationMessage;
+import com.example.app.util.KeyOrderedExecutor;
 import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
@@ -11,12 +13,16 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.annotation.EnableKafka;
+import org.springframework.kafka.config.TopicBuilder;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.*;
 import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
 import org.springframework.kafka.support.serializer.JsonSerializer;
 import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.util.backoff.FixedBackOff;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -29,6 +35,21 @@ public class KafkaConfig {
     @Value("${kafka.bootstrap-servers}")
     private String bootstrapServers;
 
+    @Value("${chat.kafka.topic:chat-messages}")
+    private String chatTopic;
+
+    @Value("${chat.kafka.partitions:12}")
+    private int chatTopicPartitions;
+
+    @Value("${chat.kafka.replicas:1}")
+    private short chatTopicReplicas;
+
+    @Value("${chat.consumer.concurrency:1}")
+    private int chatConsumerConcurrency;
+
+    @Value("${chat.kafka.delivery-mode:broadcast}")
+    private String deliveryMode;
+
 
     // Producer 설정 (메시지 발행)
     @Bean
@@ -85,7 +106,8 @@ public class KafkaConfig {
         config.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class);
         config.put(JsonDeserializer.TRUSTED_PACKAGES, "*");
         config.put(JsonDeserializer.VALUE_DEFAULT_TYPE, ChatMessageDTO.class);
-        config.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        // broadcast 모드에서 새 인스턴스 그룹은 과거 메시지를 다시 전달하지 않고 현재 시점부터 수신
+        config.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "broadcast".equals(deliveryMode) ? "latest" : "earliest");
 
         // 리밸런싱 방지 설정 추가
         config.put(ConsumerConfig.SESSION_TIMEOUT_MS_CONFIG, 30000);  // 30초
@@ -113,6 +135,8 @@ public class KafkaConfig {
         config.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class);
         config.put(JsonDeserializer.TRUSTED_PACKAGES, "*");
         config.put(JsonDeserializer.VALUE_DEFAULT_TYPE, LocationMessage.class);
+        // 동적으로 생기는 location-* 토픽은 패턴 구독에 잡히기 전 발행분도 받도록 earliest 유지 (궤적 저장용)
+        // WebSocket 전달 리스너는 broadcast 모드에서 KafkaDeliveryGroups.offsetReset(latest)으로 덮어씀
         config.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
         config.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, true);
         config.put(ConsumerConfig.ALLOW_AUTO_CREATE_TOPICS_CONFIG, false);  // 토픽 자동 생성 비활성화
@@ -146,15 +170,57 @@ public class KafkaConfig {
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(consumerFactory());
 
-        // 안정성 향상 설정
-        factory.setConcurrency(1);  // 동시성 제한
+        // 폴링 스레드는 레코드를 채팅방(키)별 샤드 큐에 넘기기만 하고, 처리가 끝난 레코드부터 ack
+        // asyncAcks: 순서와 무관하게 ack해도 앞 오프셋이 모두 처리된 지점까지만 모아서 비동기 커밋
+        factory.setConcurrency(chatConsumerConcurrency);
         factory.getContainerProperties().setPollTimeout(5000);
-        factory.getContainerProperties().setIdleBetweenPolls(100);
-        factory.getContainerProperties().setSyncCommits(true);  // 동기 커밋
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        factory.getContainerProperties().setAsyncAcks(true);
+        factory.getContainerProperties().setSyncCommits(false);
+
+        return factory;
+    }
+
+    // 채팅 메시지 write-behind 저장용 배치 컨슈머 (배치 저장 성공 후 커밋, 실패 시 같은 배치를 무기한 재시도)
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, ChatMessageDTO>
+    chatPersistListenerContainerFactory(@Value("${chat.persist.batch-size:500}") int batchSize,
+                                        @Value("${chat.persist.flush-millis:200}") int flushMillis) {
+        Map<String, Object> config = new HashMap<>(consumerFactory().getConfigurationProperties());
+        config.put(ConsumerConfig.CLIENT_ID_CONFIG, "chat-persist-" + UUID.randomUUID());
+        // 저장은 전달 모드와 무관하게 처음부터 빠짐없이
+        config.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        config.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        config.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, batchSize);
+        // 브로커가 최대 flushMillis 동안 레코드를 모아서 응답 (크기 또는 시간 기준 flush)
+        config.put(ConsumerConfig.FETCH_MIN_BYTES_CONFIG, 64 * 1024);
+        config.put(ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG, flushMillis);
 
+        ConcurrentKafkaListenerContainerFactory<String, ChatMessageDTO> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(config));
+        factory.setBatchListener(true);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.BATCH);
+        factory.setCommonErrorHandler(new DefaultErrorHandler(new FixedBackOff(1000L, FixedBackOff.UNLIMITED_ATTEMPTS)));
         return factory;
     }
 
+    // 채팅 레코드 처리용 키 순서 보장 워커 (채팅방 ID 기준 샤딩)
+    @Bean(destroyMethod = "close")
+    public KeyOrderedExecutor chatDispatchExecutor(@Value("${chat.consumer.shards:8}") int shards,
+                                                   @Value("${chat.consumer.queue-capacity:1000}") int queueCapacity) {
+        return new KeyOrderedExecutor("chat-dispatch", shards, queueCapacity);
+    }
+
+    // 채팅 메시지 단일 토픽 (roomId 키 해시로 파티션 결정, 기동 시 KafkaAdmin이 없으면 생성)
+    @Bean
+    public NewTopic chatMessagesTopic() {
+        return TopicBuilder.name(chatTopic)
+                .partitions(chatTopicPartitions)
+                .replicas(chatTopicReplicas)
+                .build();
+    }
+
     @Bean
     public KafkaAdmin kafkaAdmin() {
         Map<String, Object> configs = new HashMap<>();
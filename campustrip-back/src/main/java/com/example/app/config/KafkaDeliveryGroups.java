@@ -0,0 +1,52 @@
+package com.example.app.config;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.util.UUID;
+
+/**
+ * 채팅/위치 WebSocket 전달용 Kafka 컨슈머 그룹 ID.
+ * shared   : 모든 서버가 같은 그룹을 사용하여 레코드가 한 서버에만 전달됨 (단일 서버 운영용, 기존 방식)
+ * broadcast: 서버(인스턴스)마다 그룹을 따로 두어 모든 서버가 모든 레코드를 받고, 각자 자기 구독자에게만 전달
+ * 인스턴스 ID는 app.instance-id, 없으면 호스트 이름을 사용하므로 재시작해도 같은 그룹(커밋된 오프셋)을 이어서 사용합니다.
+ * 컨테이너처럼 호스트 이름이 매번 바뀌면 새 그룹이 생기므로, broadcast 그룹은 latest부터 읽어 과거 레코드를 다시 전달하지 않습니다.
+ * MongoDB 저장(chat.persist.group-id)은 한 번만 일어나야 하므로 항상 공유 그룹을 사용합니다.
+ */
+@Component
+@Getter
+@Slf4j
+public class KafkaDeliveryGroups {
+    private final boolean broadcast;
+    private final String instanceId;
+    private final String chatGroupId;
+    private final String locationGroupId;
+    // 전달용 그룹에 커밋된 오프셋이 없을 때 시작 위치 (KafkaConsumerService 위치 리스너에서 사용)
+    private final String offsetReset;
+
+    public KafkaDeliveryGroups(@Value("${chat.kafka.delivery-mode:broadcast}") String deliveryMode,
+                               @Value("${app.instance-id:}") String instanceId,
+                               @Value("${spring.kafka.consumer.chat-group-id}") String chatGroupId,
+                               @Value("${spring.kafka.consumer.location-group-id}") String locationGroupId) {
+        this.broadcast = "broadcast".equals(deliveryMode);
+        if (broadcast && instanceId.isBlank()) {
+            log.warn("app.instance-id가 없어 호스트 이름을 인스턴스 ID로 사용합니다. 호스트 이름이 바뀌면 새 컨슈머 그룹이 만들어집니다.");
+        }
+        this.instanceId = instanceId.isBlank() ? hostName() : instanceId;
+        this.chatGroupId = broadcast ? chatGroupId + "-" + this.instanceId : chatGroupId;
+        this.locationGroupId = broadcast ? locationGroupId + "-" + this.instanceId : locationGroupId;
+        this.offsetReset = broadcast ? "latest" : "earliest";
+        log.info("Kafka 전달 모드: {}, chatGroupId={}, locationGroupId={}", deliveryMode, this.chatGroupId, this.locationGroupId);
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return UUID.randomUUID().toString();
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.app.controller;
+
+import com.example.app.service.ChatInboxCache;
+import com.example.app.service.ChatMessageCache;
+import com.example.app.service.ChatPushService;
+import com.example.app.service.FCMService;
+import com.example.app.service.KafkaTopicRegistry;
+import com.example.app.service.LocationEngine;
+import com.example.app.service.LocationTrailService;
+import com.example.app.service.PostFeedCache;
+import com.example.app.service.ProximityAlertService;
+import com.example.app.service.RegionService;
+import com.example.app.util.KeyOrderedExecutor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+// 운영 지표 조회 (ROLE_ADMIN 전용, SecurityConfig의 /api/admin/** 규칙 적용)
+@RestController
+@RequestMapping("/api/admin")
+public class AdminController {
+    private final PostFeedCache postFeedCache;
+    private final ChatMessageCache chatMessageCache;
+    private final ChatInboxCache chatInboxCache;
+    private final KeyOrderedExecutor chatDispatchExecutor;
+    private final ChatPushService chatPushService;
+    private final FCMService fcmService;
+    private final KafkaTopicRegistry kafkaTopicRegistry;
+    private final LocationEngine locationEngine;
+    private final LocationTrailService locationTrailService;
+    private final ProximityAlertService proximityAlertService;
+    private final RegionService regionService;
+
+    @Autowired
+    public AdminController(PostFeedCache postFeedCache, ChatMessageCache chatMessageCache, ChatInboxCache chatInboxCache,
+                           @Qualifier("chatDispatchExecutor") KeyOrderedExecutor chatDispatchExecutor,
+                           ChatPushService chatPushService, FCMService fcmService,
+                           KafkaTopicRegistry kafkaTopicRegistry, LocationEngine locationEngine,
+                           LocationTrailService locationTrailService, ProximityAlertService proximityAlertService,
+                           RegionService regionService) {
+        this.postFeedCache = postFeedCache;
+        this.chatMessageCache = chatMessageCache;
+        this.chatInboxCache = chatInboxCache;
+        this.chatDispatchExecutor = chatDispatchExecutor;
+        this.chatPushService = chatPushService;
+        this.fcmService = fcmService;
+        this.kafkaTopicRegistry = kafkaTopicRegistry;
+        this.locationEngine = locationEngine;
+        this.locationTrailService = locationTrailService;
+        this.proximityAlertService = proximityAlertService;
+        this.regionService = regionService;
+    }
+
+    // 피드 캐시 적중률/크기 조회
+    @GetMapping("/cache/feed")
+    public Map<String, Object> getFeedCacheStats() {
+        return postFeedCache.stats();
+    }
+
+    // 지역 테이블 크기/로드 시각 조회
+    @GetMapping("/cache/regions")
+    public Map<String, Object> getRegionTableStats() {
+        return regionService.stats();
+    }
+
+    // Region 테이블 변경 후 지역 테이블 다시 로드
+    @PostMapping("/cache/regions/reload")
+    public Map<String, Object> reloadRegions() {
+        regionService.reload();
+        return regionService.stats();
+    }
+
+    // 채팅방 최근 메시지 버퍼 적중률/크기 조회
+    @GetMapping("/cache/chat-messages")
+    public Map<String, Object> getChatMessageCacheStats() {
+        return chatMessageCache.stats();
+    }
+
+    // 사용자별 채팅방 목록 캐시 적중률/크기 조회
+    @GetMapping("/cache/chat-inbox")
+    public Map<String, Object> getChatInboxCacheStats() {
+        return chatInboxCache.stats();
+    }
+
+    // Kafka 채팅 소비 샤드별 대기 큐 길이/처리 건수 조회
+    @GetMapping("/kafka/chat-dispatch")
+    public Map<String, Object> getChatDispatchStats() {
+        return chatDispatchExecutor.stats();
+    }
+
+    // 동적 토픽(위치 공유) 생성 대기/실패 건수 조회
+    @GetMapping("/kafka/topics")
+    public Map<String, Object> getKafkaTopicStats() {
+        return kafkaTopicRegistry.stats();
+    }
+
+    // 위치 병합 엔진 그룹/멤버 수, 발행/버림 건수 조회
+    @GetMapping("/location/engine")
+    public Map<String, Object> getLocationEngineStats() {
+        return locationEngine.stats();
+    }
+
+    // 위치 궤적 버퍼 크기, 저장 점 수/바이트 조회
+    @GetMapping("/location/trails")
+    public Map<String, Object> getLocationTrailStats() {
+        return locationTrailService.stats();
+    }
+
+    // 그룹 이탈/장소 도착 알림 판정/전송 건수 조회
+    @GetMapping("/location/proximity")
+    public Map<String, Object> getProximityAlertStats() {
+        return proximityAlertService.stats();
+    }
+
+    // 채팅 푸시 알림 큐 길이/버림/묶음 건수 조회
+    @GetMapping("/push/chat")
+    public Map<String, Object> getChatPushStats() {
+        return chatPushService.stats();
+    }
+
+    // FCM 멀티캐스트 호출 수/토큰별 결과 조회
+    @GetMapping("/push/fcm")
+    public Map<String, Object> getFcmStats() {
+        return fcmService.stats();
+    }
+}
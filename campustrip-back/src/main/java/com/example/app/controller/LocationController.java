@@ -1,11 +1,15 @@
 package com.example.app.controller;
 
 import com.example.app.dto.LocationMessage;
+import com.example.app.dto.LocationSnapshot;
 import com.example.app.service.KafkaProducerService;
+import com.example.app.service.LocationEngine;
+import com.example.app.service.ProximityAlertService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
 import org.springframework.stereotype.Controller;
 
 @Controller
@@ -14,6 +18,8 @@ import org.springframework.stereotype.Controller;
 public class LocationController {
 
     private final KafkaProducerService kafkaProducerService;
+    private final LocationEngine locationEngine;
+    private final ProximityAlertService proximityAlertService;
 
     @MessageMapping("/location/{groupId}")
     public void sendLocationToGroup(
@@ -21,11 +27,25 @@ public class LocationController {
         location.setGroupId(groupId);
         location.setTimestamp(System.currentTimeMillis());
 
-        log.info("📍 위치 메시지 수신: groupId={}, userId={}, lat={}, lng={}",
+        log.debug("📍 위치 메시지 수신: groupId={}, userId={}, lat={}, lng={}",
                 groupId, location.getUserId(),
                 location.getLatitude(), location.getLongitude());
 
+        // 이동 거리/시간 기준 미만의 갱신은 발행하지 않음
+        if (!locationEngine.shouldPublish(location)) {
+            return;
+        }
+
+        // 그룹 이탈/일정 장소 도착 판정 (알림은 비동기 전송)
+        proximityAlertService.evaluate(location);
+
         // 그룹별 토픽으로 발행
         kafkaProducerService.sendLocation("location-" + groupId, location);
     }
+
+    // /app/location/{groupId} 구독 시 현재 그룹 위치를 구독자에게만 바로 응답
+    @SubscribeMapping("/location/{groupId}")
+    public LocationSnapshot getLocationSnapshot(@DestinationVariable String groupId) {
+        return locationEngine.getSnapshot(groupId);
+    }
 }
\ No newline at end of file
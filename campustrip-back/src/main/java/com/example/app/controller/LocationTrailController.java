@@ -0,0 +1,28 @@
+package com.example.app.controller;
+
+import com.example.app.dto.LocationTrailDTO;
+import com.example.app.service.LocationTrailService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/locations")
+@RequiredArgsConstructor
+public class LocationTrailController {
+
+    private final LocationTrailService locationTrailService;
+
+    // 그룹의 하루 이동 궤적 (date: yyyy-MM-dd KST, from/to: epoch millis, tolerance: 지도 표시용 단순화 오차(m), 0이면 저장된 점 전체)
+    @GetMapping("/{groupId}/trails")
+    public List<LocationTrailDTO> getTrails(@PathVariable Integer groupId,
+                                            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+                                            @RequestParam(required = false) Long from,
+                                            @RequestParam(required = false) Long to,
+                                            @RequestParam(defaultValue = "10") double tolerance) {
+        return locationTrailService.getTrails(groupId, date, from, to, tolerance);
+    }
+}
@@ -17,28 +17,48 @@ import java.util.stream.Collectors;
 @RestController
 @RequestMapping("/api/posts")
 public class PostController {
+    // 커서 페이지 최대 크기 (size는 피드 캐시 키에도 포함되므로 상한 필요)
+    private static final int MAX_PAGE_SIZE = 50;
+
     private final PostService postService;
     private final ChatService chatService;
     private final ChatMessageService chatMessageService;
     private final RegionService regionService;
     private final S3Service s3Service;
+    private final PostFeedCache postFeedCache;
 
     @Autowired
-    public PostController(PostService postService, ChatService chatService, ChatMessageService chatMessageService, RegionService regionService, S3Service s3Service) {
+    public PostController(PostService postService, ChatService chatService, ChatMessageService chatMessageService, RegionService regionService, S3Service s3Service, PostFeedCache postFeedCache) {
         this.postService = postService;
         this.chatService = chatService;
         this.chatMessageService = chatMessageService;
         this.regionService = regionService;
         this.s3Service = s3Service;
+        this.postFeedCache = postFeedCache;
     }
 
     @GetMapping
     public Slice<PostDTO> getAllPostsInfinite(
             @RequestParam(required = false) String keyword,
             @PageableDefault(size = 3, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable){
-        Slice<Post> postSlice = postService.getAllPostsSlice(keyword, pageable);
-        // 엔티티 슬라이스를 DTO 슬라이스로 변환
-        return postSlice.map(post -> postService.convertPostToDTO(post, chatService, regionService));
+        PostFeedCache.FeedKey key = new PostFeedCache.FeedKey(null, null, keyword, pageKey(pageable), pageable.getPageSize());
+        // 엔티티 슬라이스를 DTO 슬라이스로 변환한 결과를 캐시
+        return postFeedCache.get(key,
+                () -> postService.convertPostsToDTO(postService.getAllPostsSlice(keyword, pageable), chatService, regionService),
+                Slice::getContent);
+    }
+
+    // 커서 기반 전체 게시물 조회 (cursor 파라미터가 있으면 이 핸들러로 매핑, 첫 페이지는 cursor= 로 요청)
+    @GetMapping(params = "cursor")
+    public CursorSlice<PostDTO> getAllPostsByCursor(
+            @RequestParam(required = false) String keyword,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "3") int size) {
+        int limit = pageSize(size);
+        PostFeedCache.FeedKey key = new PostFeedCache.FeedKey(null, null, keyword, "c" + cursor, limit);
+        return postFeedCache.get(key,
+                () -> postService.convertPostsToDTO(postService.getAllPostsByCursor(keyword, cursor, limit), chatService, regionService),
+                CursorSlice::getContent);
     }
 
     // GET: ID로 게시물 조회 (기존 로직을 DTO 변환 메서드로 분리)
@@ -52,7 +72,7 @@ public class PostController {
     @GetMapping("/user/{membershipId}")
     public List<PostDTO> getPostsByUserId(@PathVariable Integer membershipId) {
         List<Post> posts = postService.getPostsByMembershipId(membershipId);
-        return posts.stream().map(post -> postService.convertPostToDTO(post, chatService, regionService)).collect(Collectors.toList());
+        return postService.convertPostsToDTOs(posts, chatService, regionService);
     }
 
     // 지역 ID들로 게시물 조회 (Slice로 반환)
@@ -61,16 +81,38 @@ public class PostController {
             @RequestParam(required = false) List<Integer> regionIds,
             @RequestParam(required = false) String keyword,
             @PageableDefault(size = 3, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
-        Slice<Post> postSlice;
-        if (regionIds == null || regionIds.isEmpty()) {
-            // 지역 선택 안 함 -> 전체 검색으로 위임
-            postSlice = postService.getAllPostsSlice(keyword, pageable);
-        } else {
-            // 지역 선택 함 -> 지역 + 검색
-            postSlice = postService.getPostsByRegionIdsSlice(regionIds, keyword, pageable);
-        }
+        PostFeedCache.FeedKey key = new PostFeedCache.FeedKey(null, regionIds, keyword, pageKey(pageable), pageable.getPageSize());
+        return postFeedCache.get(key, () -> {
+            Slice<Post> postSlice;
+            if (regionIds == null || regionIds.isEmpty()) {
+                // 지역 선택 안 함 -> 전체 검색으로 위임
+                postSlice = postService.getAllPostsSlice(keyword, pageable);
+            } else {
+                // 지역 선택 함 -> 지역 + 검색
+                postSlice = postService.getPostsByRegionIdsSlice(regionIds, keyword, pageable);
+            }
+            return postService.convertPostsToDTO(postSlice, chatService, regionService);
+        }, Slice::getContent);
+    }
 
-        return postSlice.map(post -> postService.convertPostToDTO(post, chatService, regionService));
+    // 커서 기반 지역 ID 게시물 조회
+    @GetMapping(value = "/regions", params = "cursor")
+    public CursorSlice<PostDTO> getPostsByRegionIdsByCursor(
+            @RequestParam(required = false) List<Integer> regionIds,
+            @RequestParam(required = false) String keyword,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "3") int size) {
+        int limit = pageSize(size);
+        PostFeedCache.FeedKey key = new PostFeedCache.FeedKey(null, regionIds, keyword, "c" + cursor, limit);
+        return postFeedCache.get(key, () -> {
+            CursorSlice<Post> postSlice;
+            if (regionIds == null || regionIds.isEmpty()) {
+                postSlice = postService.getAllPostsByCursor(keyword, cursor, limit);
+            } else {
+                postSlice = postService.getPostsByRegionIdsByCursor(regionIds, keyword, cursor, limit);
+            }
+            return postService.convertPostsToDTO(postSlice, chatService, regionService);
+        }, CursorSlice::getContent);
     }
 
     // 대학교 ID로 게시물 조회 (Slice로 반환) - 지역 ID 필터 추가 지원
@@ -80,17 +122,33 @@ public class PostController {
             @RequestParam(required = false) List<Integer> regionIds,
             @RequestParam(required = false) String keyword,
             @PageableDefault(size = 3, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
-        Slice<Post> postSlice;
-
-        if (regionIds != null && !regionIds.isEmpty()) {
-            // 대학교 + 지역 필터링
-            postSlice = postService.getPostsByUniversityIdAndRegionIdsSlice(universityId, regionIds, keyword, pageable);
-        } else {
-            // 대학교만 필터링
-            postSlice = postService.getPostsByUniversityIdSlice(universityId, keyword, pageable);
-        }
+        PostFeedCache.FeedKey key = new PostFeedCache.FeedKey(universityId, regionIds, keyword, pageKey(pageable), pageable.getPageSize());
+        return postFeedCache.get(key, () -> {
+            Slice<Post> postSlice;
+            if (regionIds != null && !regionIds.isEmpty()) {
+                // 대학교 + 지역 필터링
+                postSlice = postService.getPostsByUniversityIdAndRegionIdsSlice(universityId, regionIds, keyword, pageable);
+            } else {
+                // 대학교만 필터링
+                postSlice = postService.getPostsByUniversityIdSlice(universityId, keyword, pageable);
+            }
+            return postService.convertPostsToDTO(postSlice, chatService, regionService);
+        }, Slice::getContent);
+    }
 
-        return postSlice.map(post -> postService.convertPostToDTO(post, chatService, regionService));
+    // 커서 기반 대학교 ID 게시물 조회 - 지역 ID 필터 지원
+    @GetMapping(value = "/university", params = "cursor")
+    public CursorSlice<PostDTO> getPostsByUniversityIdByCursor(
+            @RequestParam Integer universityId,
+            @RequestParam(required = false) List<Integer> regionIds,
+            @RequestParam(required = false) String keyword,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "3") int size) {
+        int limit = pageSize(size);
+        PostFeedCache.FeedKey key = new PostFeedCache.FeedKey(universityId, regionIds, keyword, "c" + cursor, limit);
+        return postFeedCache.get(key,
+                () -> postService.convertPostsToDTO(postService.getPostsByUniversityIdByCursor(universityId, regionIds, keyword, cursor, limit), chatService, regionService),
+                CursorSlice::getContent);
     }
 
     // 사용자 id를 통해 작성한 게시글 또는 참여한 게시글 (Post + Application)조회
@@ -99,7 +157,18 @@ public class PostController {
             @PathVariable Integer membershipId,
             @PageableDefault(size = 3, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
         Slice<Post> slice = postService.getPostsByMembershipIdSlice(membershipId, pageable);
-        return slice.map(post -> postService.convertPostToDTO(post, chatService, regionService));
+        return postService.convertPostsToDTO(slice, chatService, regionService);
+    }
+
+    // 커서 기반 작성/참여 게시글 조회
+    @GetMapping(value = "/membership/{membershipId}", params = "cursor")
+    public CursorSlice<PostDTO> getPostsByMembershipIdByCursor(
+            @PathVariable Integer membershipId,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "3") int size) {
+        int limit = pageSize(size);
+        CursorSlice<Post> slice = postService.getPostsByMembershipIdByCursor(membershipId, cursor, limit);
+        return postService.convertPostsToDTO(slice, chatService, regionService);
     }
 
     // POST: 새 게시물 생성
@@ -139,4 +208,13 @@ public class PostController {
         }
         postService.transferPostOwnership(post, newOwnerMembershipId);
     }
-}
\ No newline at end of file
+
+    // 피드 캐시 키용 페이지 식별자 (페이지 번호 + 정렬)
+    private static int pageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    private String pageKey(Pageable pageable) {
+        return "p" + pageable.getPageNumber() + ":" + pageable.getSort();
+    }
+}
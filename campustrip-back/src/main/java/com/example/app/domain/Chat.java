@@ -25,6 +25,10 @@ public class Chat {
     @Column(name="title", nullable = false, length = 100)
     private String title;
 
+    // 채팅방 멤버 수 (ChatMember 추가/삭제 시 ChatService에서 함께 갱신)
+    @Column(name="member_count", nullable = false)
+    private Integer memberCount = 0;
+
     @JsonManagedReference("chat-chatMembers")  // 정방향 참조 (JSON에 포함)
     @OneToMany(mappedBy = "chat", cascade = CascadeType.ALL, orphanRemoval = true)
     private java.util.List<ChatMember> chatMembers = new java.util.ArrayList<>();
@@ -5,6 +5,7 @@ import jakarta.persistence.*;
 import lombok.*;
 
 import java.io.Serializable;
+import java.time.LocalDateTime;
 
 @Entity
 @Table(name="ChatMember")
@@ -31,6 +32,23 @@ public class ChatMember {
     @Column(name = "is_owner", nullable = false)
     private Boolean role;
 
+    // 읽음 커서: 마지막으로 읽은 메시지 (MongoDB 메시지 ID, 메시지 시간)
+    @Column(name = "last_read_message_id", length = 24)
+    private String lastReadMessageId;
+
+    @Column(name = "last_read_at")
+    private LocalDateTime lastReadAt;
+
+    // 읽음 커서 이후 저장된 다른 멤버의 메시지 수 (채팅방 목록에서 메시지를 세지 않도록 비정규화)
+    @Column(name = "unread_count", nullable = false)
+    private Integer unreadCount = 0;
+
+    public ChatMember(Chat chat, User user, Boolean role) {
+        this.chat = chat;
+        this.user = user;
+        this.role = role;
+    }
+
     // 복합키 클래스
     @EqualsAndHashCode
     @NoArgsConstructor
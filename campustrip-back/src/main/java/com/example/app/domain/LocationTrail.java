@@ -0,0 +1,33 @@
+package com.example.app.domain;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 그룹 멤버 한 명의 하루치 위치 궤적 (_id: {groupId}:{userId}:{yyyy-MM-dd}, 날짜는 KST)
+@Document(collection = "location_trails")
+@NoArgsConstructor
+@Getter @Setter
+public class LocationTrail {
+
+    @Id
+    private String id;
+    private Integer groupId; // 위치 공유 그룹(채팅방) ID
+    private Integer userId;
+    private String userName;
+    private String day; // yyyy-MM-dd
+    private long dayStart; // 날짜 시작 시각 (epoch millis), 청크의 시간은 이 시각 기준 초
+    private long startTime; // 첫 점 시각 (epoch millis)
+    private long endTime; // 마지막 점 시각 (epoch millis)
+    private int pointCount;
+    private List<byte[]> chunks = new ArrayList<>(); // PolylineCodec 청크, 시간순으로 추가
+
+    public static String idOf(Integer groupId, Integer userId, String day) {
+        return groupId + ":" + userId + ":" + day;
+    }
+}
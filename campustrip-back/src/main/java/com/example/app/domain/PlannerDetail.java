@@ -23,4 +23,20 @@ public class PlannerDetail {
 
     @Column(name = "google_place_id", nullable = false)
     private String googlePlaceId;
+
+    // 장소 이름/좌표 (도착 알림용, 이전에 저장된 일정은 null)
+    @Column(name = "place_name")
+    private String placeName;
+
+    @Column(name = "latitude")
+    private Double latitude;
+
+    @Column(name = "longitude")
+    private Double longitude;
+
+    public PlannerDetail(PlannerDetailId id, Planner planner, String googlePlaceId) {
+        this.id = id;
+        this.planner = planner;
+        this.googlePlaceId = googlePlaceId;
+    }
 }
\ No newline at end of file
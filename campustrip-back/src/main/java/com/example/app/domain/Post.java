@@ -33,7 +33,7 @@ public class Post {
     private String body;
 
     @Column(name="created_at", nullable=false)
-    private java.time.LocalDateTime createdAt = java.time.LocalDateTime.now();
+    private java.time.LocalDateTime createdAt = java.time.LocalDateTime.now().truncatedTo(java.time.temporal.ChronoUnit.SECONDS);
 
     @Column(name="updated_at")
     private java.time.LocalDateTime updatedAt;
@@ -14,7 +14,9 @@ import lombok.Setter;
 @AllArgsConstructor
 public class PostAsset {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // IDENTITY는 INSERT마다 키를 받아와야 해서 배치가 불가능하므로 pooled 시퀀스(테이블 에뮬레이션) 사용
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "post_asset_seq")
+    @SequenceGenerator(name = "post_asset_seq", sequenceName = "PostAsset_seq", allocationSize = 50)
     @Column(name = "asset_id")
     private Integer assetId;
 
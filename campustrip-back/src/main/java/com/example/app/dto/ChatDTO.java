@@ -18,6 +18,7 @@ public class ChatDTO {
     private String lastMessage;
     private java.time.LocalDateTime lastMessageTime;
     private Integer memberSize;
+    private Integer unreadCount;
     private List<String> profilePhotoUrl = new java.util.ArrayList<>();
     public void addProfilePhotoUrl(String url) {
         this.profilePhotoUrl.add(url);
@@ -0,0 +1,24 @@
+package com.example.app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 채팅방 메시지 구간 응답. messages는 오래된 순으로 정렬됩니다.
+ * 위로 스크롤할 때는 olderCursor를 before로, 새 메시지를 이어 받을 때는 newerCursor를 after로 넘깁니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatHistorySlice {
+    private List<ChatMessageDTO> messages;
+    private String olderCursor;
+    private String newerCursor;
+    private boolean hasOlder;
+    private boolean hasNewer;
+}
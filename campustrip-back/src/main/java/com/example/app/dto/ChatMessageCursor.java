@@ -0,0 +1,34 @@
+package com.example.app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 채팅 메시지 목록의 keyset 커서 (timestamp, 메시지 ID).
+ * 같은 시각에 저장된 메시지를 구분하기 위해 MongoDB ObjectId를 보조 키로 사용합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class ChatMessageCursor {
+    private final LocalDateTime timestamp;
+    private final String messageId;
+
+    public String encode() {
+        String raw = timestamp + "|" + messageId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ChatMessageCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int sep = raw.lastIndexOf('|');
+            return new ChatMessageCursor(LocalDateTime.parse(raw.substring(0, sep)), raw.substring(sep + 1));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+}
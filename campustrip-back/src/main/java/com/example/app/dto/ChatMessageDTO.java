@@ -20,6 +20,7 @@ public class ChatMessageDTO {
     private MultipartFile image;
     private String imageUrl;
     private LocalDateTime timestamp;
+    private String messageId; // MongoDB 메시지 ID (커서 생성용)
     public ChatMessageDTO (MessageType messageType, Integer roomId, Integer membershipId, String userName, String message, LocalDateTime timestamp) {
         this.messageType = messageType;
         this.roomId = roomId;
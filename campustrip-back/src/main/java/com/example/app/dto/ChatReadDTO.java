@@ -0,0 +1,16 @@
+package com.example.app.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 채팅방 읽음 처리 요청 (/pub/chat/read): 화면에 표시된 마지막 메시지, 사용자는 STOMP 세션에서 확인
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatReadDTO {
+    private Integer roomId;
+    private String messageId;
+    private LocalDateTime timestamp;
+}
@@ -18,6 +18,6 @@ public class CreateChat {
         this.createdAt = java.time.LocalDateTime.now();
     }
     public Chat toEntity() {
-        return new Chat(null, java.time.LocalDateTime.now(), title, null);
+        return new Chat(null, java.time.LocalDateTime.now(), title, 0, null);
     }
 }
@@ -23,6 +23,8 @@ public class CreatePost {
     private List<Integer> regions;
     private Integer plannerId;
     private List<MultipartFile> images;
+    // 수정 시 유지할 기존 이미지 URL 목록 (null이면 기존 이미지를 모두 새 이미지로 교체)
+    private List<String> keepImageUrls;
 
     public Post toEntity() {
         Post newPost = new Post();
@@ -25,6 +25,8 @@ public class CreateReview {
 
     // 첨부 이미지 파일 - aws에 업로드 후 url로 저장 예정
     private List<MultipartFile> images;
+    // 수정 시 유지할 기존 이미지 URL 목록 (null이면 기존 이미지를 모두 새 이미지로 교체)
+    private List<String> keepImageUrls;
 
     public Review toEntity() {
         Review newReview = new Review();
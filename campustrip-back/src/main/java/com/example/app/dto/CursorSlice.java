@@ -0,0 +1,28 @@
+package com.example.app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서(keyset) 기반 무한 스크롤 응답.
+ * 다음 페이지는 nextCursor 값을 그대로 cursor 파라미터로 넘겨 조회합니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorSlice<T> {
+    private List<T> content;
+    private String nextCursor;
+    private boolean hasNext;
+
+    public <R> CursorSlice<R> map(Function<? super T, ? extends R> converter) {
+        List<R> converted = content.stream().<R>map(converter).toList();
+        return new CursorSlice<>(converted, nextCursor, hasNext);
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.app.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+// 그룹 멤버별 마지막 위치 묶음 (/topic/location/{groupId}로 주기적으로 전송)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class LocationSnapshot {
+    private String type = "SNAPSHOT";
+    private String groupId;
+    private List<LocationMessage> locations;
+    private long timestamp;
+
+    public LocationSnapshot(String groupId, List<LocationMessage> locations, long timestamp) {
+        this.groupId = groupId;
+        this.locations = locations;
+        this.timestamp = timestamp;
+    }
+}
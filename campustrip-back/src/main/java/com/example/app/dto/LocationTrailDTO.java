@@ -0,0 +1,17 @@
+package com.example.app.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+// 멤버별 궤적 조회 결과 (storedCount: 단순화 전 저장된 점 수)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class LocationTrailDTO {
+    private Integer userId;
+    private String userName;
+    private int storedCount;
+    private List<TrailPoint> points;
+}
@@ -11,4 +11,13 @@ public class PlannerDetailDTO {
     private Integer plannerOrder;
     private Integer day;
     private String googlePlaceId;
+    private String placeName;
+    private Double latitude;
+    private Double longitude;
+
+    public PlannerDetailDTO(Integer plannerOrder, Integer day, String googlePlaceId) {
+        this.plannerOrder = plannerOrder;
+        this.day = day;
+        this.googlePlaceId = googlePlaceId;
+    }
 }
\ No newline at end of file
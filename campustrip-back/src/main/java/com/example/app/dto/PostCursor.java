@@ -0,0 +1,41 @@
+package com.example.app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 게시글 목록의 keyset 커서 (createdAt, postId).
+ * 클라이언트에는 Base64URL로 인코딩된 불투명 문자열로만 노출합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class PostCursor {
+    // 첫 페이지 조회용 센티널 (MySQL DATETIME 최대값보다 큰 createdAt은 존재하지 않음)
+    public static final PostCursor FIRST = new PostCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Integer.MAX_VALUE);
+
+    private final LocalDateTime createdAt;
+    private final Integer postId;
+
+    public String encode() {
+        String raw = createdAt + "|" + postId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // cursor가 비어 있으면 첫 페이지
+    public static PostCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int sep = raw.lastIndexOf('|');
+            return new PostCursor(LocalDateTime.parse(raw.substring(0, sep)), Integer.valueOf(raw.substring(sep + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.app.dto;
+
+import lombok.*;
+
+// 궤적의 한 점
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrailPoint {
+    private double latitude;
+    private double longitude;
+    private long timestamp;
+}
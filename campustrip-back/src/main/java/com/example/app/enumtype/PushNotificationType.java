@@ -7,5 +7,7 @@ public enum PushNotificationType {
     APPLICATION_REJECT, // 동행 거절 알림
     USER_RATED, // 사용자 평가당함 알림
     REVIEW_COMMENT, // 리뷰 댓글 알림
-    CHAT_MESSAGE // 채팅 메시지 알림
+    CHAT_MESSAGE, // 채팅 메시지 알림
+    GROUP_DISTANCE, // 동행 멤버가 그룹에서 멀어짐 알림
+    PLACE_ARRIVAL // 동행 멤버 일정 장소 도착 알림
 }
@@ -0,0 +1,8 @@
+package com.example.app.enumtype;
+
+public enum PushSendResult {
+    SUCCESS, // 전송 성공
+    INVALID_TOKEN, // 만료/삭제된 토큰 (토큰 삭제 대상)
+    RETRYABLE, // 일시적 오류 (서버 오류, 할당량 초과 등)
+    FAILED // 그 외 오류 (토큰은 유지)
+}
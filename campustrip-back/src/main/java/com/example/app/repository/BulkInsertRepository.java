@@ -0,0 +1,12 @@
+package com.example.app.repository;
+
+import java.util.List;
+
+/**
+ * 키를 직접 지정하는 엔티티의 일괄 INSERT용 커스텀 Repository.
+ * save()는 키가 채워진 엔티티를 기존 행으로 보고 merge(행마다 SELECT)하므로,
+ * 새 행임이 확실한 경우 persist로 바로 넣어 hibernate.jdbc.batch_size 단위로 묶어 전송합니다.
+ */
+public interface BulkInsertRepository<T> {
+    <S extends T> List<S> insertAll(Iterable<S> entities);
+}
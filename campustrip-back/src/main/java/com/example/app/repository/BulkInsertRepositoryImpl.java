@@ -0,0 +1,27 @@
+package com.example.app.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class BulkInsertRepositoryImpl<T> implements BulkInsertRepository<T> {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public <S extends T> List<S> insertAll(Iterable<S> entities) {
+        List<S> result = new ArrayList<>();
+        for (S entity : entities) {
+            entityManager.persist(entity);
+            result.add(entity);
+        }
+        // 중복 키 등 오류를 호출 시점에 드러내기 위해 바로 flush (order_inserts로 테이블별 배치 전송)
+        entityManager.flush();
+        return result;
+    }
+}
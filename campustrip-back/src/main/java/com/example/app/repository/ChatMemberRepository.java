@@ -4,19 +4,60 @@ import com.example.app.domain.Chat;
 import com.example.app.domain.ChatMember;
 import com.example.app.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
-public interface ChatMemberRepository  extends JpaRepository<ChatMember, ChatMember.ChatMemberId> {
+public interface ChatMemberRepository  extends JpaRepository<ChatMember, ChatMember.ChatMemberId>, BulkInsertRepository<ChatMember> {
     List<ChatMember> findAllByUser(User user);
+    // 채팅방 목록 요약 (엔티티 대신 필요한 컬럼만 조회)
+    @Query("SELECT c.id AS chatId, c.title AS title, c.createdAt AS createdAt, c.memberCount AS memberCount, cm.unreadCount AS unreadCount " +
+            "FROM ChatMember cm JOIN cm.chat c WHERE cm.user.id = :userId ORDER BY c.id ASC")
+    List<ChatRoomSummary> findChatRoomSummariesByUserId(@Param("userId") Integer userId);
+    // 여러 채팅방의 멤버 프로필 사진 (채팅방별 방장 먼저)
+    @Query("SELECT cm.chat.id AS chatId, u.profilePhotoUrl AS profilePhotoUrl FROM ChatMember cm JOIN cm.user u " +
+            "WHERE cm.chat.id IN :chatIds ORDER BY cm.chat.id ASC, cm.role DESC")
+    List<MemberPhoto> findMemberPhotosByChatIdIn(@Param("chatIds") List<Integer> chatIds);
     List<ChatMember> findAllByChat(Chat chat);
+
+    @Query("SELECT cm.user.id FROM ChatMember cm WHERE cm.chat.id = :chatId AND cm.role = true")
+    List<Integer> findOwnerIdsByChatId(@Param("chatId") Integer chatId);
     ChatMember findByChatAndUser(Chat chat, User user);
-    void deleteByChatAndUser(Chat chat, User user);
+    // 삭제된 행 수를 반환하여 멤버 수 갱신에 사용
+    @Modifying
+    @Query("DELETE FROM ChatMember cm WHERE cm.chat = :chat AND cm.user = :user")
+    int deleteByChatAndUser(@Param("chat") Chat chat, @Param("user") User user);
     // chatId 리스트로 ChatMember 찾기 (role이 true인 멤버만)
     @Query("SELECT cm FROM ChatMember cm LEFT JOIN FETCH cm.user WHERE cm.chat.id IN :chatIds ORDER BY cm.chat.id ASC")
     List<ChatMember> findAllByChatIdIn(List<Integer> chatIds);
+    // 메시지 저장 시 보낸 사람을 제외하고, 아직 그 메시지 시간까지 읽지 않은 멤버의 안 읽은 수 증가
+    @Modifying
+    @Query("UPDATE ChatMember cm SET cm.unreadCount = cm.unreadCount + 1 WHERE cm.chat.id = :chatId " +
+            "AND (:senderId IS NULL OR cm.user.id <> :senderId) AND (cm.lastReadAt IS NULL OR cm.lastReadAt < :timestamp)")
+    int incrementUnreadCount(@Param("chatId") Integer chatId, @Param("senderId") Integer senderId, @Param("timestamp") LocalDateTime timestamp);
+    // 읽음 커서 이동 및 안 읽은 수 초기화 (늦게 도착한 이전 위치의 읽음 요청은 무시)
+    @Modifying
+    @Query("UPDATE ChatMember cm SET cm.unreadCount = 0, cm.lastReadMessageId = :messageId, cm.lastReadAt = :readAt " +
+            "WHERE cm.chat.id = :chatId AND cm.user.id = :userId AND (cm.lastReadAt IS NULL OR cm.lastReadAt <= :readAt)")
+    int markRead(@Param("chatId") Integer chatId, @Param("userId") Integer userId,
+                 @Param("messageId") String messageId, @Param("readAt") LocalDateTime readAt);
+
+    interface ChatRoomSummary {
+        Integer getChatId();
+        String getTitle();
+        LocalDateTime getCreatedAt();
+        Integer getMemberCount();
+        Integer getUnreadCount();
+    }
+
+    interface MemberPhoto {
+        Integer getChatId();
+        String getProfilePhotoUrl();
+    }
 
 }
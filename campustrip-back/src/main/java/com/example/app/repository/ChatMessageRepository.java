@@ -1,9 +1,13 @@
 package com.example.app.repository;
 
 import com.example.app.domain.ChatMessage;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.Aggregation;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ChatMessageRepository extends MongoRepository<ChatMessage, Integer> {
@@ -13,9 +17,19 @@ public interface ChatMessageRepository extends MongoRepository<ChatMessage, Inte
 
     ChatMessage findTopByChatIdOrderByTimestampDesc(Integer chatId);
 
+    // 커서 페이징: 정렬/개수는 Pageable로 지정 (chatId_timestamp_id 인덱스 범위 스캔)
+    List<ChatMessage> findByChatId(Integer chatId, Pageable pageable);
+
+    @Query("{ chatId: ?0, $or: [ { timestamp: { $lt: ?1 } }, { timestamp: ?1, _id: { $lt: ?2 } } ] }")
+    List<ChatMessage> findBefore(Integer chatId, LocalDateTime timestamp, ObjectId messageId, Pageable pageable);
+
+    @Query("{ chatId: ?0, $or: [ { timestamp: { $gt: ?1 } }, { timestamp: ?1, _id: { $gt: ?2 } } ] }")
+    List<ChatMessage> findAfter(Integer chatId, LocalDateTime timestamp, ObjectId messageId, Pageable pageable);
+
     @Aggregation(pipeline = {
             "{ $match: { chatId: { $in: ?0 } } }",
-            "{ $sort: { timestamp: -1 } }",
+            // chatId_timestamp_id 인덱스 순서와 같게 정렬하여 채팅방별 첫 문서만 읽도록 함
+            "{ $sort: { chatId: 1, timestamp: -1, _id: -1 } }",
             "{ $group: { _id: '$chatId', latestMessage: { $first: '$$ROOT' } } }",
             "{ $replaceRoot: { newRoot: '$latestMessage' } }",
             "{ $sort: { timestamp: -1 } }"
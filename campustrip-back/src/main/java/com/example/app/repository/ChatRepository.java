@@ -2,6 +2,9 @@ package com.example.app.repository;
 
 import com.example.app.domain.Chat;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -9,4 +12,21 @@ import java.util.List;
 @Repository
 public interface ChatRepository extends JpaRepository<Chat, Integer> {
     List<Chat> findAllByChatMembers_User_Id(Integer userId);
+
+    // 멤버 수만 PK로 조회
+    @Query("SELECT c.memberCount FROM Chat c WHERE c.id = :chatId")
+    Integer findMemberCountById(@Param("chatId") Integer chatId);
+
+    // 멤버 수 증감 (단일 UPDATE 문으로 원자적으로 처리, 이후 조회가 이전 memberCount를 보지 않도록 영속성 컨텍스트 비움)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Chat c SET c.memberCount = c.memberCount + :delta WHERE c.id = :chatId")
+    int addMemberCount(@Param("chatId") Integer chatId, @Param("delta") int delta);
+
+    // 실제 ChatMember 수와 어긋난 member_count 보정, 보정된 채팅방 수 반환
+    @Modifying
+    @Query(value = "UPDATE Chat c " +
+            "LEFT JOIN (SELECT chat_id, COUNT(*) AS cnt FROM ChatMember GROUP BY chat_id) m ON m.chat_id = c.chat_id " +
+            "SET c.member_count = COALESCE(m.cnt, 0) " +
+            "WHERE c.member_count <> COALESCE(m.cnt, 0)", nativeQuery = true)
+    int reconcileMemberCounts();
 }
@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -15,6 +16,12 @@ public interface FCMTokenRepository extends JpaRepository<FCMToken, FCMTokenId>
 
     List<FCMToken> findByMembershipId(Integer membershipId);
 
+    List<FCMToken> findByMembershipIdIn(Collection<Integer> membershipIds);
+
+    @Modifying
+    @Query("DELETE FROM FCMToken f WHERE f.token IN :tokens")
+    void deleteByTokenIn(@Param("tokens") Collection<String> tokens);
+
     @Modifying
     @Query("DELETE FROM FCMToken f WHERE f.token = :token")
     void deleteByToken(@Param("token") String token);
@@ -0,0 +1,11 @@
+package com.example.app.repository;
+
+import com.example.app.domain.LocationTrail;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import java.util.List;
+
+public interface LocationTrailRepository extends MongoRepository<LocationTrail, String> {
+    // groupId_day 인덱스
+    List<LocationTrail> findByGroupIdAndDay(Integer groupId, String day);
+}
@@ -3,10 +3,21 @@ package com.example.app.repository;
 import com.example.app.domain.PlannerDetail;
 import com.example.app.domain.PlannerDetailId;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import java.util.List;
 
-public interface PlannerDetailRepository extends JpaRepository<PlannerDetail, PlannerDetailId> {
+public interface PlannerDetailRepository extends JpaRepository<PlannerDetail, PlannerDetailId>, BulkInsertRepository<PlannerDetail> {
     List<PlannerDetail> findByPlannerPlannerIdOrderByIdPlannerOrder(Integer plannerId);
 
-    void deleteByPlannerPlannerId(Integer plannerId);
+    // 채팅방(동행 그룹)에 연결된 게시글 플래너의 좌표가 있는 일정 장소
+    @Query("SELECT pd FROM PlannerDetail pd JOIN FETCH pd.planner p WHERE pd.latitude IS NOT NULL AND pd.longitude IS NOT NULL " +
+            "AND p IN (SELECT post.planner FROM Post post WHERE post.chat.id = :chatId)")
+    List<PlannerDetail> findStopsByChatId(@Param("chatId") Integer chatId);
+
+    // 항목을 하나씩 조회/삭제하지 않고 DELETE 한 번으로 처리
+    @Modifying
+    @Query("DELETE FROM PlannerDetail pd WHERE pd.planner.plannerId = :plannerId")
+    void deleteByPlannerPlannerId(@Param("plannerId") Integer plannerId);
 }
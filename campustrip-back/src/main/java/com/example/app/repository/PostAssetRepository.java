@@ -3,11 +3,18 @@ package com.example.app.repository;
 import com.example.app.domain.Post;
 import com.example.app.domain.PostAsset;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Collection;
+import java.util.List;
 
 public interface PostAssetRepository extends JpaRepository<PostAsset, Integer> {
     Collection<PostAsset> findAllByPost(Post post);
+
+    // 여러 게시글의 첨부파일을 한 번에 조회
+    @Query("SELECT pa FROM PostAsset pa WHERE pa.post.postId IN :postIds ORDER BY pa.assetId ASC")
+    List<PostAsset> findAllByPostIdIn(@Param("postIds") List<Integer> postIds);
     // JPA Repository 기본 메세드
     // save, findById, findAll, deleteById, existsById, count
 }
@@ -6,9 +6,12 @@ import com.example.app.domain.User;
 import com.example.app.domain.Planner;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -72,7 +75,7 @@ public interface PostRepository extends JpaRepository<Post,Integer>
      * @return 조건에 맞는 Post Slice
      */
     @Query("SELECT DISTINCT p FROM Post p JOIN p.regions r WHERE r.regionId IN :regionIds")
-    @org.springframework.data.jpa.repository.EntityGraph(attributePaths = {"user", "chat", "regions", "assets", "applications"})
+    @EntityGraph(attributePaths = {"user", "chat", "regions", "assets", "applications"})
     Slice<Post> findPostsByRegionIdsSlice(@Param("regionIds") List<Integer> regionIds, Pageable pageable);
 
     /**
@@ -82,39 +85,114 @@ public interface PostRepository extends JpaRepository<Post,Integer>
      * @param pageable 페이징 정보
      * @return Post Slice
      */
-    @org.springframework.data.jpa.repository.EntityGraph(attributePaths = {"user", "chat", "regions", "assets"})
+    @EntityGraph(attributePaths = {"user", "chat", "regions", "assets"})
     Slice<Post> findAllBy(Pageable pageable);
 
     /* 검색어(keyword)가 제목(title) 또는 본문(body)에 포함된 게시글을 Slice로 조회 */
-    @org.springframework.data.jpa.repository.EntityGraph(attributePaths = {"user", "chat", "regions", "assets"})
+    @EntityGraph(attributePaths = {"user", "chat", "regions", "assets"})
     @Query("SELECT DISTINCT p FROM Post p WHERE (p.title LIKE %:keyword% OR p.body LIKE %:keyword%)")
     Slice<Post> findAllByKeyword(@Param("keyword") String keyword, Pageable pageable);
 
     /* 특정 지역(regionIds)에 속하면서, 검색어(keyword)가 포함된 게시글을 Slice로 조회 */
-    @org.springframework.data.jpa.repository.EntityGraph(attributePaths = {"user", "chat", "regions", "assets", "applications"})
+    @EntityGraph(attributePaths = {"user", "chat", "regions", "assets", "applications"})
     @Query("SELECT DISTINCT p FROM Post p JOIN p.regions r WHERE r.regionId IN :regionIds AND (p.title LIKE %:keyword% OR p.body LIKE %:keyword%)")
     Slice<Post> findPostsByRegionIdsAndKeyword(@Param("regionIds") List<Integer> regionIds, @Param("keyword") String keyword, Pageable pageable);
 
     /* 특정 대학교(universityId)의 사용자가 작성한 게시글을 Slice로 조회 */
-    @org.springframework.data.jpa.repository.EntityGraph(attributePaths = {"user", "chat", "regions", "assets"})
+    @EntityGraph(attributePaths = {"user", "chat", "regions", "assets"})
     @Query("SELECT DISTINCT p FROM Post p WHERE p.user.university.id = :universityId")
     Slice<Post> findAllByUniversityId(@Param("universityId") Integer universityId, Pageable pageable);
 
     /* 특정 대학교(universityId)의 사용자가 작성한 게시글 중 검색어(keyword)가 포함된 게시글을 Slice로 조회 */
-    @org.springframework.data.jpa.repository.EntityGraph(attributePaths = {"user", "chat", "regions", "assets"})
+    @EntityGraph(attributePaths = {"user", "chat", "regions", "assets"})
     @Query("SELECT DISTINCT p FROM Post p WHERE p.user.university.id = :universityId AND (p.title LIKE %:keyword% OR p.body LIKE %:keyword%)")
     Slice<Post> findAllByUniversityIdAndKeyword(@Param("universityId") Integer universityId, @Param("keyword") String keyword, Pageable pageable);
 
     /* 특정 대학교(universityId)의 사용자가 작성한 게시글 중 특정 지역(regionIds)에 속하는 게시글을 Slice로 조회 */
-    @org.springframework.data.jpa.repository.EntityGraph(attributePaths = {"user", "chat", "regions", "assets"})
+    @EntityGraph(attributePaths = {"user", "chat", "regions", "assets"})
     @Query("SELECT DISTINCT p FROM Post p JOIN p.regions r WHERE p.user.university.id = :universityId AND r.regionId IN :regionIds")
     Slice<Post> findAllByUniversityIdAndRegionIds(@Param("universityId") Integer universityId, @Param("regionIds") List<Integer> regionIds, Pageable pageable);
 
     /* 특정 대학교(universityId)의 사용자가 작성한 게시글 중 특정 지역(regionIds)에 속하고 검색어(keyword)가 포함된 게시글을 Slice로 조회 */
-    @org.springframework.data.jpa.repository.EntityGraph(attributePaths = {"user", "chat", "regions", "assets"})
+    @EntityGraph(attributePaths = {"user", "chat", "regions", "assets"})
     @Query("SELECT DISTINCT p FROM Post p JOIN p.regions r WHERE p.user.university.id = :universityId AND r.regionId IN :regionIds AND (p.title LIKE %:keyword% OR p.body LIKE %:keyword%)")
     Slice<Post> findAllByUniversityIdAndRegionIdsAndKeyword(@Param("universityId") Integer universityId, @Param("regionIds") List<Integer> regionIds, @Param("keyword") String keyword, Pageable pageable);
 
+    /*
+     * 커서(keyset) 페이징용 ID 조회 쿼리
+     * 컬렉션 fetch 없이 post_id만 (createdAt, postId) 역순으로 조회하므로 LIMIT가 SQL에 그대로 적용됩니다.
+     * keyword가 null이면 검색 조건은 무시되며, 결과 Post는 findAllWithDetailsByPostIdIn으로 채웁니다.
+     */
+    @Query("SELECT p.postId FROM Post p " +
+            "WHERE (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.postId < :postId)) " +
+            "AND (:keyword IS NULL OR p.title LIKE CONCAT('%', :keyword, '%') OR p.body LIKE CONCAT('%', :keyword, '%')) " +
+            "ORDER BY p.createdAt DESC, p.postId DESC")
+    List<Integer> findIdsByCursor(@Param("createdAt") LocalDateTime createdAt, @Param("postId") Integer postId,
+                                  @Param("keyword") String keyword, Pageable pageable);
+
+    @Query("SELECT p.postId FROM Post p " +
+            "WHERE p.postId IN (SELECT pr.postId FROM Post pr JOIN pr.regions r WHERE r.regionId IN :regionIds) " +
+            "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.postId < :postId)) " +
+            "AND (:keyword IS NULL OR p.title LIKE CONCAT('%', :keyword, '%') OR p.body LIKE CONCAT('%', :keyword, '%')) " +
+            "ORDER BY p.createdAt DESC, p.postId DESC")
+    List<Integer> findIdsByRegionIdsAndCursor(@Param("regionIds") List<Integer> regionIds,
+                                              @Param("createdAt") LocalDateTime createdAt, @Param("postId") Integer postId,
+                                              @Param("keyword") String keyword, Pageable pageable);
+
+    @Query("SELECT p.postId FROM Post p " +
+            "WHERE p.user.university.id = :universityId " +
+            "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.postId < :postId)) " +
+            "AND (:keyword IS NULL OR p.title LIKE CONCAT('%', :keyword, '%') OR p.body LIKE CONCAT('%', :keyword, '%')) " +
+            "ORDER BY p.createdAt DESC, p.postId DESC")
+    List<Integer> findIdsByUniversityIdAndCursor(@Param("universityId") Integer universityId,
+                                                 @Param("createdAt") LocalDateTime createdAt, @Param("postId") Integer postId,
+                                                 @Param("keyword") String keyword, Pageable pageable);
+
+    @Query("SELECT p.postId FROM Post p " +
+            "WHERE p.user.university.id = :universityId " +
+            "AND p.postId IN (SELECT pr.postId FROM Post pr JOIN pr.regions r WHERE r.regionId IN :regionIds) " +
+            "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.postId < :postId)) " +
+            "AND (:keyword IS NULL OR p.title LIKE CONCAT('%', :keyword, '%') OR p.body LIKE CONCAT('%', :keyword, '%')) " +
+            "ORDER BY p.createdAt DESC, p.postId DESC")
+    List<Integer> findIdsByUniversityIdAndRegionIdsAndCursor(@Param("universityId") Integer universityId,
+                                                             @Param("regionIds") List<Integer> regionIds,
+                                                             @Param("createdAt") LocalDateTime createdAt, @Param("postId") Integer postId,
+                                                             @Param("keyword") String keyword, Pageable pageable);
+
+    /*
+     * 사용자가 작성했거나 신청이 수락된(state=1) 게시글 ID를 최신순으로 조회 ("내 여행" 목록)
+     * 작성/참여 게시글의 합집합과 정렬, 페이징을 모두 DB에서 처리합니다.
+     */
+    @Query("SELECT p.postId FROM Post p " +
+            "WHERE (p.user.id = :membershipId " +
+            "OR EXISTS (SELECT a FROM Application a WHERE a.post = p AND a.user.id = :membershipId AND a.applicationStatus = true)) " +
+            "ORDER BY p.createdAt DESC, p.postId DESC")
+    Slice<Integer> findIdsByMembership(@Param("membershipId") Integer membershipId, Pageable pageable);
+
+    @Query("SELECT p.postId FROM Post p " +
+            "WHERE (p.user.id = :membershipId " +
+            "OR EXISTS (SELECT a FROM Application a WHERE a.post = p AND a.user.id = :membershipId AND a.applicationStatus = true)) " +
+            "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.postId < :postId)) " +
+            "ORDER BY p.createdAt DESC, p.postId DESC")
+    List<Integer> findIdsByMembershipAndCursor(@Param("membershipId") Integer membershipId,
+                                               @Param("createdAt") LocalDateTime createdAt, @Param("postId") Integer postId,
+                                               Pageable pageable);
+
+    /**
+     * 커서 페이징으로 얻은 한 페이지 분량의 ID에 대해서만 연관 컬렉션을 함께 로드합니다.
+     * 반환 순서는 보장되지 않으므로 호출 측에서 ID 순서대로 재정렬해야 합니다.
+     *
+     * @param postIds 조회할 게시글 ID 리스트
+     * @return Post 리스트 (User, Chat, Region, Asset, Application 포함)
+     */
+    @EntityGraph(attributePaths = {"user", "chat", "regions", "assets", "applications"})
+    @Query("SELECT DISTINCT p FROM Post p WHERE p.postId IN :postIds")
+    List<Post> findAllWithDetailsByPostIdIn(@Param("postIds") List<Integer> postIds);
+
+    /* 검색 색인(PostSearchService) 구성용 - 제목/본문과 필터 조건(지역, 작성자 대학교)만 로드 */
+    @Query("SELECT DISTINCT p FROM Post p LEFT JOIN FETCH p.regions LEFT JOIN FETCH p.user u LEFT JOIN FETCH u.university")
+    List<Post> findAllForSearchIndex();
+
     // 동적 쿼리 생성
 //    @Query(value= "select m from Member m where m.memberId = :id and m.email = :email" )
 //    Member findMemberByIdAndEmail(@Param("id") Long id, @Param("email") String email);
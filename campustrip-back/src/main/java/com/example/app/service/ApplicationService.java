@@ -5,6 +5,7 @@ import com.example.app.domain.User;
 import com.example.app.dto.CreateApplicationRequest;
 import com.example.app.dto.PushNotificationRequest;
 import com.example.app.enumtype.PushNotificationType;
+import com.example.app.util.AfterCommit;
 import org.springframework.stereotype.Service;  // @Service 어노테이션
 import org.springframework.beans.factory.annotation.Autowired;  // 의존성 주입용 (선택적)
 import com.example.app.repository.ApplicationRepository;
@@ -21,15 +22,17 @@ public class ApplicationService {
     private final UserRepository userRepository;
     private final PostRepository postRepository;
     private final FCMService fcmService;
+    private final PostFeedCache postFeedCache;
 
     @Autowired
     public ApplicationService(ApplicationRepository applicationRepository,
                               UserRepository userRepository,
-                              PostRepository postRepository, FCMService fcmService) {
+                              PostRepository postRepository, FCMService fcmService, PostFeedCache postFeedCache) {
         this.userRepository = userRepository;
         this.postRepository = postRepository;
         this.applicationRepository = applicationRepository;
         this.fcmService = fcmService;
+        this.postFeedCache = postFeedCache;
     }
 
     public List<Application> getApplicationsByUserId(Integer userId) {
@@ -64,6 +67,7 @@ public class ApplicationService {
         application.setPost(post);
 
         applicationRepository.save(application);
+        postFeedCache.invalidatePost(post.getPostId());
     }
 
     @Transactional
@@ -78,6 +82,7 @@ public class ApplicationService {
                 .orElseThrow(() -> new RuntimeException("신청 내역을 찾을 수 없습니다."));
 
         applicationRepository.deleteByUserAndPost(user, post);
+        AfterCommit.run(() -> postFeedCache.invalidatePost(postId));
     }
 
     public Application createApplication(CreateApplicationRequest request) {
@@ -111,7 +116,9 @@ public class ApplicationService {
         fcmService.sendNotificationToUser(notificationRequest);
 
 
-        return applicationRepository.save(application);
+        Application savedApplication = applicationRepository.save(application);
+        postFeedCache.invalidatePost(post.getPostId());
+        return savedApplication;
     }
 
     public void updateApplicationStatus(Integer postId, User user, boolean status) {
@@ -123,5 +130,6 @@ public class ApplicationService {
 
         application.setApplicationStatus(status);
         applicationRepository.save(application);
+        postFeedCache.invalidatePost(postId);
     }
 }
@@ -0,0 +1,189 @@
+package com.example.app.service;
+
+import com.example.app.dto.ChatDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별 채팅방 목록 캐시.
+ * 완성된 채팅방 목록을 사용자 ID별로 LRU + TTL로 보관하고, 채팅방 -> 캐시된 사용자 역인덱스로
+ * 메시지 전송/저장 시 해당 채팅방 멤버의 목록만 무효화합니다.
+ * 로드 도중 무효화된 결과를 버릴 때는 로드한 사용자와 로드 결과에 포함된 채팅방의 무효화만 확인하므로,
+ * 다른 채팅방의 메시지 때문에 캐시 저장이 막히지 않습니다.
+ */
+@Service
+public class ChatInboxCache {
+    private final int maxSize;
+    private final long ttlMillis;
+
+    // accessOrder=true 로 LRU 순서 유지, 모든 접근은 this 락으로 보호
+    private final LinkedHashMap<Integer, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    // chatId -> 이 채팅방이 포함된 목록을 캐시한 사용자 ID
+    private final Map<Integer, Set<Integer>> usersByChat = new HashMap<>();
+    // 무효화 순번: 로드 시작 시점 이후 해당 사용자/채팅방이 무효화됐으면 로드 결과를 저장하지 않음
+    private long sequence = 0;
+    private final Map<Integer, Long> userInvalidatedAt = new HashMap<>();
+    private final Map<Integer, Long> chatInvalidatedAt = new HashMap<>();
+    // 진행 중인 로드의 시작 순번 -> 개수 (가장 오래된 로드보다 이전의 무효화 기록은 정리)
+    private final TreeMap<Long, Integer> loadsInFlight = new TreeMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public ChatInboxCache(@Value("${chat.inbox-cache.max-size:5000}") int maxSize,
+                          @Value("${chat.inbox-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    // 캐시에 있으면 반환하고, 없으면 loader로 만든 목록을 저장 후 반환
+    public List<ChatDTO> get(Integer userId, Supplier<List<ChatDTO>> loader) {
+        long loadStart;
+        synchronized (this) {
+            Entry entry = entries.get(userId);
+            if (entry != null) {
+                if (entry.expiresAt > System.currentTimeMillis()) {
+                    hits.incrementAndGet();
+                    return entry.chats;
+                }
+                remove(userId);
+                evictions.incrementAndGet();
+            }
+            misses.incrementAndGet();
+            loadStart = sequence;
+            loadsInFlight.merge(loadStart, 1, Integer::sum);
+        }
+
+        List<ChatDTO> chats;
+        try {
+            chats = loader.get();
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                finishLoad(loadStart);
+            }
+            throw e;
+        }
+
+        synchronized (this) {
+            boolean stale = invalidatedSince(userId, chats, loadStart);
+            finishLoad(loadStart);
+            if (!stale) {
+                remove(userId);
+                Entry entry = new Entry(chats, System.currentTimeMillis() + ttlMillis);
+                entries.put(userId, entry);
+                entry.chatIds.forEach(chatId -> usersByChat.computeIfAbsent(chatId, k -> new HashSet<>()).add(userId));
+                while (entries.size() > maxSize) {
+                    remove(entries.keySet().iterator().next());
+                    evictions.incrementAndGet();
+                }
+            }
+        }
+        return chats;
+    }
+
+    // 새 메시지, 멤버 변경: 이 채팅방이 포함된 모든 사용자의 목록 무효화
+    public synchronized void invalidateChat(Integer chatId) {
+        if (!loadsInFlight.isEmpty()) {
+            chatInvalidatedAt.put(chatId, ++sequence);
+        }
+        Set<Integer> userIds = usersByChat.get(chatId);
+        if (userIds == null) {
+            return;
+        }
+        for (Integer userId : List.copyOf(userIds)) {
+            if (remove(userId)) {
+                invalidations.incrementAndGet();
+            }
+        }
+    }
+
+    // 읽음 처리, 채팅방 참여/생성: 해당 사용자의 목록만 무효화
+    public synchronized void invalidateUser(Integer userId) {
+        if (!loadsInFlight.isEmpty()) {
+            userInvalidatedAt.put(userId, ++sequence);
+        }
+        if (remove(userId)) {
+            invalidations.incrementAndGet();
+        }
+    }
+
+    public synchronized Map<String, Object> stats() {
+        long hitCount = hits.get();
+        long missCount = misses.get();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("size", entries.size());
+        stats.put("maxSize", maxSize);
+        stats.put("ttlSeconds", ttlMillis / 1000);
+        stats.put("indexedChats", usersByChat.size());
+        stats.put("loadsInFlight", loadsInFlight.values().stream().mapToInt(Integer::intValue).sum());
+        stats.put("trackedInvalidations", userInvalidatedAt.size() + chatInvalidatedAt.size());
+        stats.put("hits", hitCount);
+        stats.put("misses", missCount);
+        stats.put("hitRate", hitCount + missCount == 0 ? 0.0 : (double) hitCount / (hitCount + missCount));
+        stats.put("evictions", evictions.get());
+        stats.put("invalidations", invalidations.get());
+        return stats;
+    }
+
+    // this 락을 잡은 상태에서 호출: loadStart 이후 사용자 또는 결과에 포함된 채팅방이 무효화됐는지
+    private boolean invalidatedSince(Integer userId, List<ChatDTO> chats, long loadStart) {
+        if (userInvalidatedAt.getOrDefault(userId, 0L) > loadStart) {
+            return true;
+        }
+        for (ChatDTO chat : chats) {
+            if (chatInvalidatedAt.getOrDefault(chat.getId(), 0L) > loadStart) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // this 락을 잡은 상태에서 호출: 남은 로드 중 가장 오래된 시작 순번 이하의 무효화 기록은 더 이상 비교되지 않음
+    private void finishLoad(long loadStart) {
+        loadsInFlight.computeIfPresent(loadStart, (k, count) -> count == 1 ? null : count - 1);
+        if (loadsInFlight.isEmpty()) {
+            userInvalidatedAt.clear();
+            chatInvalidatedAt.clear();
+            return;
+        }
+        long oldest = loadsInFlight.firstKey();
+        userInvalidatedAt.values().removeIf(at -> at <= oldest);
+        chatInvalidatedAt.values().removeIf(at -> at <= oldest);
+    }
+
+    // this 락을 잡은 상태에서 호출
+    private boolean remove(Integer userId) {
+        Entry entry = entries.remove(userId);
+        if (entry == null) {
+            return false;
+        }
+        for (Integer chatId : entry.chatIds) {
+            Set<Integer> userIds = usersByChat.get(chatId);
+            if (userIds != null) {
+                userIds.remove(userId);
+                if (userIds.isEmpty()) {
+                    usersByChat.remove(chatId);
+                }
+            }
+        }
+        return true;
+    }
+
+    private static class Entry {
+        private final List<ChatDTO> chats;
+        private final List<Integer> chatIds;
+        private final long expiresAt;
+
+        Entry(List<ChatDTO> chats, long expiresAt) {
+            this.chats = chats;
+            this.chatIds = chats.stream().map(ChatDTO::getId).toList();
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.app.service;
+
+import com.example.app.dto.ChatDTO;
+import com.example.app.dto.ChatMessageDTO;
+import com.example.app.repository.ChatMemberRepository;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+/**
+ * 채팅방 목록 조립.
+ * 멤버십+채팅방 요약 1회, 채팅방 멤버 프로필 사진 1회, 채팅방별 마지막 메시지 1회 조회 후 chatId 기준 해시맵으로 합칩니다.
+ * 완성된 목록은 ChatInboxCache에 사용자별로 캐시됩니다.
+ */
+@Service
+public class ChatInboxService {
+    // 채팅방 목록에 표시하는 프로필 사진 최대 개수 (프론트 아바타 그리드 크기)
+    private static final int MAX_PROFILE_PHOTOS = 4;
+
+    private final ChatMemberRepository chatMemberRepository;
+    private final ChatMessageService chatMessageService;
+    private final ChatInboxCache chatInboxCache;
+
+    public ChatInboxService(ChatMemberRepository chatMemberRepository, ChatMessageService chatMessageService,
+                            ChatInboxCache chatInboxCache) {
+        this.chatMemberRepository = chatMemberRepository;
+        this.chatMessageService = chatMessageService;
+        this.chatInboxCache = chatInboxCache;
+    }
+
+    public List<ChatDTO> getInbox(Integer userId) {
+        return chatInboxCache.get(userId, () -> load(userId));
+    }
+
+    private List<ChatDTO> load(Integer userId) {
+        // chatId 오름차순
+        Map<Integer, ChatDTO> chats = new LinkedHashMap<>();
+        for (ChatMemberRepository.ChatRoomSummary summary : chatMemberRepository.findChatRoomSummariesByUserId(userId)) {
+            ChatDTO chatDTO = new ChatDTO();
+            chatDTO.setId(summary.getChatId());
+            chatDTO.setTitle(summary.getTitle());
+            chatDTO.setCreatedAt(summary.getCreatedAt());
+            chatDTO.setMemberSize(summary.getMemberCount());
+            chatDTO.setUnreadCount(summary.getUnreadCount());
+            chats.put(summary.getChatId(), chatDTO);
+        }
+        if (chats.isEmpty()) {
+            return List.of();
+        }
+        List<Integer> chatIds = new ArrayList<>(chats.keySet());
+
+        // 방장 먼저, 채팅방당 최대 MAX_PROFILE_PHOTOS개
+        for (ChatMemberRepository.MemberPhoto photo : chatMemberRepository.findMemberPhotosByChatIdIn(chatIds)) {
+            ChatDTO chatDTO = chats.get(photo.getChatId());
+            if (chatDTO != null && chatDTO.getProfilePhotoUrl().size() < MAX_PROFILE_PHOTOS) {
+                chatDTO.addProfilePhotoUrl(photo.getProfilePhotoUrl());
+            }
+        }
+
+        for (ChatMessageDTO lastMessage : chatMessageService.getLatestMessagesByChatIds(chatIds)) {
+            ChatDTO chatDTO = lastMessage == null ? null : chats.get(lastMessage.getRoomId());
+            if (chatDTO != null) {
+                chatDTO.setLastMessageType(lastMessage.getMessageType());
+                chatDTO.setSenderName(lastMessage.getUserName());
+                chatDTO.setLastMessage(lastMessage.getMessage());
+                chatDTO.setLastMessageTime(lastMessage.getTimestamp());
+            }
+        }
+        return List.copyOf(chats.values());
+    }
+}
@@ -0,0 +1,297 @@
+package com.example.app.service;
+
+import com.example.app.dto.ChatMessageCursor;
+import com.example.app.dto.ChatMessageDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 채팅방별 최근 메시지 링 버퍼 캐시.
+ * 조회된 채팅방만 최근 N개(또는 N개 미만이면 전체) 메시지를 버퍼로 보관하고,
+ * 이후 saveMessage와 Kafka 수신 경로에서 들어오는 메시지를 이어 붙여 항상 "가장 최근 구간"을 유지합니다.
+ * 메모리 상한은 max-rooms x per-room 메시지이며, 초과 시 LRU로, 일정 시간 조회가 없으면 주기적으로 제거합니다.
+ * 버퍼 범위를 벗어나는 조회는 empty를 반환하여 호출 측에서 MongoDB로 조회하도록 합니다.
+ */
+@Service
+@Slf4j
+public class ChatMessageCache {
+    private static final Comparator<ChatMessageDTO> ORDER = Comparator
+            .comparing(ChatMessageDTO::getTimestamp)
+            .thenComparing(ChatMessageDTO::getMessageId);
+
+    private final int perRoom;
+    private final int maxRooms;
+    private final long idleMillis;
+
+    // accessOrder=true 로 LRU 순서 유지, 맵 자체는 this 락으로 보호 (버퍼 내용은 버퍼별 락)
+    private final LinkedHashMap<Integer, RoomBuffer> rooms = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public ChatMessageCache(@Value("${chat.message-cache.per-room:50}") int perRoom,
+                            @Value("${chat.message-cache.max-rooms:2000}") int maxRooms,
+                            @Value("${chat.message-cache.idle-seconds:600}") long idleSeconds) {
+        this.perRoom = perRoom;
+        this.maxRooms = maxRooms;
+        this.idleMillis = idleSeconds * 1000;
+    }
+
+    public int getPerRoom() {
+        return perRoom;
+    }
+
+    // 새 메시지 반영: 버퍼가 있는 채팅방에만 추가 (없는 방은 다음 조회 때 MongoDB에서 채움)
+    public void append(ChatMessageDTO message) {
+        if (message == null || message.getRoomId() == null || message.getMessageId() == null || message.getTimestamp() == null) {
+            return;
+        }
+        RoomBuffer buffer;
+        synchronized (this) {
+            buffer = rooms.get(message.getRoomId());
+        }
+        if (buffer != null) {
+            buffer.append(message);
+        }
+    }
+
+    /**
+     * 가장 최근 메시지를 최대 limit + 1개까지 최신순으로 반환합니다. (limit + 1번째는 이전 메시지 존재 여부 판단용)
+     * 버퍼가 없으면 loader(최신순 최대 per-room개)로 채운 뒤 응답합니다.
+     */
+    public Optional<List<ChatMessageDTO>> latest(Integer chatId, int limit, Supplier<List<ChatMessageDTO>> loader) {
+        if (limit + 1 > perRoom) {
+            return Optional.empty();
+        }
+        RoomBuffer buffer = bufferFor(chatId, loader);
+        if (buffer == null) {
+            misses.incrementAndGet();
+            return Optional.empty();
+        }
+        hits.incrementAndGet();
+        return Optional.of(buffer.newestFirst(null, limit + 1));
+    }
+
+    // cursor 이전 메시지를 최신순으로 최대 limit + 1개, 버퍼 범위로 답할 수 없으면 empty
+    public Optional<List<ChatMessageDTO>> before(Integer chatId, ChatMessageCursor cursor, int limit) {
+        RoomBuffer buffer = loaded(chatId);
+        Optional<List<ChatMessageDTO>> result = buffer == null ? Optional.empty() : buffer.before(cursor, limit + 1);
+        (result.isPresent() ? hits : misses).incrementAndGet();
+        return result;
+    }
+
+    // cursor 이후 메시지를 오래된 순으로 최대 limit + 1개, 버퍼 범위로 답할 수 없으면 empty
+    public Optional<List<ChatMessageDTO>> after(Integer chatId, ChatMessageCursor cursor, int limit) {
+        RoomBuffer buffer = loaded(chatId);
+        Optional<List<ChatMessageDTO>> result = buffer == null ? Optional.empty() : buffer.after(cursor, limit + 1);
+        (result.isPresent() ? hits : misses).incrementAndGet();
+        return result;
+    }
+
+    public synchronized void evict(Integer chatId) {
+        rooms.remove(chatId);
+    }
+
+    // 일정 시간 조회가 없던 채팅방 버퍼 제거
+    @Scheduled(fixedDelayString = "${chat.message-cache.sweep-millis:60000}")
+    public synchronized void evictIdleRooms() {
+        long threshold = System.currentTimeMillis() - idleMillis;
+        int before = rooms.size();
+        rooms.values().removeIf(buffer -> buffer.lastAccess < threshold);
+        evictions.addAndGet(before - rooms.size());
+    }
+
+    public synchronized Map<String, Object> stats() {
+        long hitCount = hits.get();
+        long missCount = misses.get();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("rooms", rooms.size());
+        stats.put("maxRooms", maxRooms);
+        stats.put("perRoom", perRoom);
+        stats.put("hits", hitCount);
+        stats.put("misses", missCount);
+        stats.put("hitRate", hitCount + missCount == 0 ? 0.0 : (double) hitCount / (hitCount + missCount));
+        stats.put("evictions", evictions.get());
+        return stats;
+    }
+
+    private RoomBuffer loaded(Integer chatId) {
+        RoomBuffer buffer;
+        synchronized (this) {
+            buffer = rooms.get(chatId);
+        }
+        if (buffer == null || !buffer.isReady()) {
+            return null;
+        }
+        buffer.lastAccess = System.currentTimeMillis();
+        return buffer;
+    }
+
+    // 버퍼를 먼저 등록한 뒤 MongoDB를 조회하므로, 조회 중 도착한 메시지는 대기 목록에 쌓였다가 합쳐짐
+    private RoomBuffer bufferFor(Integer chatId, Supplier<List<ChatMessageDTO>> loader) {
+        RoomBuffer buffer;
+        boolean created = false;
+        synchronized (this) {
+            buffer = rooms.get(chatId);
+            if (buffer == null) {
+                buffer = new RoomBuffer(perRoom);
+                rooms.put(chatId, buffer);
+                created = true;
+                while (rooms.size() > maxRooms) {
+                    Iterator<Integer> eldest = rooms.keySet().iterator();
+                    eldest.next();
+                    eldest.remove();
+                    evictions.incrementAndGet();
+                }
+            }
+        }
+        if (created) {
+            try {
+                buffer.fill(loader.get());
+            } catch (RuntimeException e) {
+                evict(chatId);
+                throw e;
+            }
+        }
+        if (!buffer.isReady()) {
+            return null; // 다른 요청이 채우는 중
+        }
+        buffer.lastAccess = System.currentTimeMillis();
+        return buffer;
+    }
+
+    /**
+     * 한 채팅방의 최근 메시지 링 버퍼. (timestamp, messageId) 오름차순으로 유지합니다.
+     * 버퍼가 가득 차 있으면 "최근 capacity개", 아니면 "채팅방 전체 메시지"를 의미합니다.
+     */
+    private static final class RoomBuffer {
+        private final ChatMessageDTO[] ring;
+        private int head = 0; // 가장 오래된 메시지 위치
+        private int size = 0;
+        private boolean ready = false;
+        private List<ChatMessageDTO> pending = new ArrayList<>();
+        private volatile long lastAccess = System.currentTimeMillis();
+
+        RoomBuffer(int capacity) {
+            this.ring = new ChatMessageDTO[capacity];
+        }
+
+        synchronized boolean isReady() {
+            return ready;
+        }
+
+        // newestFirst: 최신순 최대 capacity개
+        synchronized void fill(List<ChatMessageDTO> newestFirst) {
+            List<ChatMessageDTO> all = new ArrayList<>(newestFirst);
+            all.addAll(pending);
+            pending = null;
+            all.sort(ORDER);
+            for (ChatMessageDTO message : all) {
+                insert(message);
+            }
+            ready = true;
+        }
+
+        synchronized void append(ChatMessageDTO message) {
+            if (!ready) {
+                if (pending != null) {
+                    pending.add(message);
+                }
+                return;
+            }
+            insert(message);
+        }
+
+        private void insert(ChatMessageDTO message) {
+            // 같은 메시지가 saveMessage와 Kafka 수신 양쪽에서 들어오므로 ID로 중복 제거
+            for (int i = size - 1; i >= 0; i--) {
+                if (message.getMessageId().equals(get(i).getMessageId())) {
+                    return;
+                }
+            }
+            if (size == 0 || ORDER.compare(message, get(size - 1)) >= 0) {
+                if (size < ring.length) {
+                    ring[(head + size) % ring.length] = message;
+                    size++;
+                } else {
+                    ring[head] = message;
+                    head = (head + 1) % ring.length;
+                }
+                return;
+            }
+            // 드물게 순서가 뒤바뀌어 도착한 경우: 정렬 위치에 삽입
+            if (size == ring.length && ORDER.compare(message, get(0)) < 0) {
+                return; // 버퍼 범위보다 오래된 메시지
+            }
+            List<ChatMessageDTO> all = new ArrayList<>(size + 1);
+            for (int i = 0; i < size; i++) {
+                all.add(get(i));
+            }
+            int pos = Collections.binarySearch(all, message, ORDER);
+            all.add(pos < 0 ? -pos - 1 : pos, message);
+            if (all.size() > ring.length) {
+                all.remove(0);
+            }
+            Arrays.fill(ring, null);
+            head = 0;
+            size = all.size();
+            for (int i = 0; i < size; i++) {
+                ring[i] = all.get(i);
+            }
+        }
+
+        private ChatMessageDTO get(int i) {
+            return ring[(head + i) % ring.length];
+        }
+
+        private boolean complete() {
+            return size < ring.length;
+        }
+
+        synchronized List<ChatMessageDTO> newestFirst(ChatMessageCursor cursor, int count) {
+            List<ChatMessageDTO> result = new ArrayList<>(count);
+            for (int i = size - 1; i >= 0 && result.size() < count; i--) {
+                ChatMessageDTO message = get(i);
+                if (cursor == null || compare(message, cursor) < 0) {
+                    result.add(message);
+                }
+            }
+            return result;
+        }
+
+        synchronized Optional<List<ChatMessageDTO>> before(ChatMessageCursor cursor, int count) {
+            List<ChatMessageDTO> result = newestFirst(cursor, count);
+            // 결과가 모자라면 버퍼보다 오래된 메시지가 더 있을 수 있으므로 전체 보관 중일 때만 응답
+            return result.size() == count || complete() ? Optional.of(result) : Optional.empty();
+        }
+
+        synchronized Optional<List<ChatMessageDTO>> after(ChatMessageCursor cursor, int count) {
+            // 커서가 버퍼의 가장 오래된 메시지보다 앞이면 그 사이 구간이 버퍼에 없음
+            if (!complete() && (size == 0 || compare(get(0), cursor) > 0)) {
+                return Optional.empty();
+            }
+            List<ChatMessageDTO> result = new ArrayList<>(count);
+            for (int i = 0; i < size && result.size() < count; i++) {
+                ChatMessageDTO message = get(i);
+                if (compare(message, cursor) > 0) {
+                    result.add(message);
+                }
+            }
+            return Optional.of(result);
+        }
+
+        private static int compare(ChatMessageDTO message, ChatMessageCursor cursor) {
+            LocalDateTime timestamp = message.getTimestamp();
+            int byTime = timestamp.compareTo(cursor.getTimestamp());
+            return byTime != 0 ? byTime : message.getMessageId().compareTo(cursor.getMessageId());
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.app.service;
+
+import com.example.app.domain.ChatMessage;
+import com.example.app.dto.ChatMessageDTO;
+import com.mongodb.bulk.BulkWriteError;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 채팅 메시지 write-behind 저장.
+ * 채팅 토픽을 별도 컨슈머 그룹으로 배치 소비하여 MongoDB에 bulk insert 합니다.
+ * 배치 크기/대기 시간은 chatPersistListenerContainerFactory의 max.poll.records, fetch.max.wait.ms로 조절되며,
+ * 저장에 성공한 배치만 오프셋을 커밋하므로 실패 시 같은 레코드를 Kafka에서 다시 받아 재시도합니다.
+ * 새로 저장된 메시지만 안 읽은 수에 반영하여 재처리 시 중복으로 세지 않습니다.
+ */
+@Service
+@Slf4j
+public class ChatMessagePersister {
+    private static final int DUPLICATE_KEY = 11000;
+
+    private final MongoTemplate mongoTemplate;
+    private final ChatMessageService chatMessageService;
+
+    public ChatMessagePersister(MongoTemplate mongoTemplate, ChatMessageService chatMessageService) {
+        this.mongoTemplate = mongoTemplate;
+        this.chatMessageService = chatMessageService;
+    }
+
+    @KafkaListener(
+            id = "chatMessagePersister",
+            topics = "${chat.kafka.topic:chat-messages}",
+            groupId = "${chat.persist.group-id:chat-persist}",
+            containerFactory = "chatPersistListenerContainerFactory",
+            autoStartup = "${chat.persist.write-behind:true}"
+    )
+    public void persist(List<ChatMessageDTO> messages) {
+        List<ChatMessage> entities = messages.stream()
+                .filter(Objects::nonNull)
+                .filter(message -> message.getMessageId() != null)
+                .map(ChatMessageService::toEntity)
+                .toList();
+        if (entities.isEmpty()) {
+            return;
+        }
+        List<ChatMessage> inserted = entities;
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ChatMessage.class)
+                    .insert(entities)
+                    .execute();
+        } catch (BulkOperationException e) {
+            // 재처리로 이미 저장된 메시지(같은 _id)는 무시, 그 외 오류는 배치 전체 재시도
+            boolean onlyDuplicates = e.getErrors().stream().map(BulkWriteError::getCode).allMatch(code -> code == DUPLICATE_KEY);
+            if (!onlyDuplicates) {
+                throw e;
+            }
+            log.debug("이미 저장된 채팅 메시지 {}건 건너뜀", e.getErrors().size());
+            Set<Integer> duplicateIndexes = new HashSet<>();
+            e.getErrors().forEach(error -> duplicateIndexes.add(error.getIndex()));
+            inserted = new ArrayList<>();
+            for (int i = 0; i < entities.size(); i++) {
+                if (!duplicateIndexes.contains(i)) {
+                    inserted.add(entities.get(i));
+                }
+            }
+        }
+        log.debug("채팅 메시지 {}건 일괄 저장", inserted.size());
+        if (!inserted.isEmpty()) {
+            chatMessageService.countUnread(inserted);
+        }
+    }
+}
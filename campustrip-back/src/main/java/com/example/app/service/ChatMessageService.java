@@ -4,36 +4,70 @@ import com.example.app.domain.Chat;
 import com.example.app.domain.ChatMessage;
 import com.example.app.domain.Post;
 import com.example.app.domain.User;
+import com.example.app.dto.ChatHistorySlice;
+import com.example.app.dto.ChatMessageCursor;
 import com.example.app.dto.ChatMessageDTO;
 import com.example.app.enumtype.MessageType;
 import com.example.app.repository.ChatMessageRepository;
 import com.example.app.repository.PostRepository;
 import com.example.app.repository.UserRepository;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
 import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
 
 @Service
 @Slf4j
 public class ChatMessageService {
+    private static final int MAX_HISTORY_LIMIT = 100;
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "timestamp").and(Sort.by(Sort.Direction.DESC, "id"));
+    private static final Sort OLDEST_FIRST = Sort.by(Sort.Direction.ASC, "timestamp").and(Sort.by(Sort.Direction.ASC, "id"));
+
     private final ChatMessageRepository chatMessageRepository;
     private final KafkaTemplate<String, ChatMessageDTO> kafkaTemplate;
     private final PostRepository postRepository;
     private final UserRepository userRepository;
     private final S3Service s3Service;
+    private final ChatMessageCache chatMessageCache;
+    private final ChatService chatService;
+    private final ChatInboxCache chatInboxCache;
+    private final ExecutorService ioExecutor;
+
+    // keyed: 고정 파티션 단일 토픽에 roomId를 키로 발행 (채팅방 내 순서 보장), per-room: 기존 채팅방별 토픽
+    @Value("${chat.kafka.publish-mode:keyed}")
+    private String publishMode;
+    @Value("${chat.kafka.topic:chat-messages}")
+    private String chatTopic;
+    // keyed 모드에서 MongoDB 저장을 ChatMessagePersister(Kafka 배치 소비)에 맡길지 여부
+    @Value("${chat.persist.write-behind:true}")
+    private boolean writeBehind;
 
     @Autowired
-    public ChatMessageService(ChatMessageRepository chatMessageRepository, KafkaTemplate<String, ChatMessageDTO> kafkaTemplate, PostRepository postRepository, UserRepository userRepository, S3Service s3Service) {
+    public ChatMessageService(ChatMessageRepository chatMessageRepository, KafkaTemplate<String, ChatMessageDTO> kafkaTemplate, PostRepository postRepository, UserRepository userRepository, S3Service s3Service,
+                              ChatMessageCache chatMessageCache, ChatService chatService, ChatInboxCache chatInboxCache,
+                              ExecutorService ioExecutor) {
         this.chatMessageRepository = chatMessageRepository;
         this.kafkaTemplate = kafkaTemplate;
         this.postRepository = postRepository;
         this.userRepository = userRepository;
         this.s3Service = s3Service;
+        this.chatMessageCache = chatMessageCache;
+        this.chatService = chatService;
+        this.chatInboxCache = chatInboxCache;
+        this.ioExecutor = ioExecutor;
     }
 
     public void sendMessage(ChatMessageDTO message) {
@@ -43,9 +77,8 @@ public class ChatMessageService {
         // messagingTemplate.convertAndSend("/sub/chat/room/" + roomId, message);
         log.info("Kafka로 메시지 발행: roomId={}, message={}", message.getRoomId(), message.getMessage());
         // ✅ 변경: Kafka Topic으로 발행
-        String topic = "chat-room-" + message.getRoomId();
         ChatMessageDTO savedMessage = saveMessage(message);
-        kafkaTemplate.send(topic, savedMessage);
+        String topic = publish(savedMessage);
         log.info("메시지 발행 완료: topic={}, message={}", topic, savedMessage.getMessage());
     }
 
@@ -60,9 +93,8 @@ public class ChatMessageService {
                 java.time.LocalDateTime.now().atZone(ZoneId.of("Asia/Seoul")).toLocalDateTime()
         );
         log.info("Kafka로 입장 메시지 발행: roomId={}, message={}", joinMessage.getRoomId(), joinMessage.getMessage());
-        String topic = "chat-room-" + joinMessage.getRoomId();
         ChatMessageDTO savedMessage = saveMessage(joinMessage);
-        kafkaTemplate.send(topic, savedMessage);
+        String topic = publish(savedMessage);
         log.info("입장 메시지 발행 완료: topic={}, message={}", topic, savedMessage.getMessage());
     }
 
@@ -77,19 +109,53 @@ public class ChatMessageService {
                 java.time.LocalDateTime.now().atZone(ZoneId.of("Asia/Seoul")).toLocalDateTime()
         );
         log.info("Kafka로 퇴장 메시지 발행: roomId={}, message={}", leaveMessage.getRoomId(), leaveMessage.getMessage());
-        String topic = "chat-room-" + leaveMessage.getRoomId();
         ChatMessageDTO savedMessage = saveMessage(leaveMessage);
-        kafkaTemplate.send(topic, savedMessage);
+        String topic = publish(savedMessage);
         log.info("퇴장 메시지 발행 완료: topic={}, message={}", topic, savedMessage.getMessage());
     }
 
+    private String publish(ChatMessageDTO message) {
+        if ("per-room".equals(publishMode)) {
+            String topic = "chat-room-" + message.getRoomId();
+            kafkaTemplate.send(topic, message);
+            return topic;
+        }
+        kafkaTemplate.send(chatTopic, String.valueOf(message.getRoomId()), message)
+                .whenComplete((result, ex) -> {
+                    // 발행 실패 시 Kafka를 통한 저장도 불가능하므로 직접 저장
+                    // (콜백은 Kafka 프로듀서 I/O 스레드에서 실행되므로 MongoDB/MySQL 쓰기는 ioExecutor로 넘김)
+                    if (ex != null && isWriteBehind()) {
+                        log.error("채팅 메시지 발행 실패, MongoDB에 직접 저장: messageId={}", message.getMessageId(), ex);
+                        ioExecutor.execute(() -> {
+                            try {
+                                ChatMessage saved = chatMessageRepository.save(toEntity(message));
+                                countUnread(List.of(saved));
+                            } catch (Exception e) {
+                                log.error("채팅 메시지 직접 저장 실패: messageId={}", message.getMessageId(), e);
+                            }
+                        });
+                    }
+                });
+        return chatTopic;
+    }
+
+    private boolean isWriteBehind() {
+        return writeBehind && !"per-room".equals(publishMode);
+    }
+
+    /**
+     * 메시지 ID와 시간을 확정하고, write-behind 모드가 아니면 바로 MongoDB에 저장합니다.
+     * write-behind 모드에서는 Kafka 발행 후 ChatMessagePersister가 일괄 저장합니다.
+     */
     public ChatMessageDTO saveMessage(ChatMessageDTO chatMessage) {
         ChatMessage chatMessageEntity = new ChatMessage();
+        chatMessageEntity.setId(new ObjectId().toHexString());
         chatMessageEntity.setMessageType(chatMessage.getMessageType());
         chatMessageEntity.setChatId(chatMessage.getRoomId());
         chatMessageEntity.setSenderId(chatMessage.getMembershipId());
         chatMessageEntity.setSenderName(chatMessage.getUserName());
-        chatMessageEntity.setTimestamp(chatMessage.getTimestamp());
+        // MongoDB는 밀리초까지만 저장하므로 캐시/커서와 값이 같도록 미리 절삭
+        chatMessageEntity.setTimestamp(chatMessage.getTimestamp() == null ? null : chatMessage.getTimestamp().truncatedTo(ChronoUnit.MILLIS));
         if(chatMessage.getMessageType() == MessageType.IMAGE) {
             try {
                 String url = s3Service.uploadFile(chatMessage.getImage());
@@ -101,16 +167,26 @@ public class ChatMessageService {
         }else {
             chatMessageEntity.setContent(chatMessage.getMessage());
         }
-        ChatMessage savedMsg = chatMessageRepository.save(chatMessageEntity);
-        return new ChatMessageDTO(
-                savedMsg.getMessageType(),
-                savedMsg.getChatId(),
-                savedMsg.getSenderId(),
-                savedMsg.getSenderName(),
-                savedMsg.getContent(),
-                savedMsg.getImageUrl(),
-                savedMsg.getTimestamp()
-        );
+        ChatMessage savedMsg = chatMessageEntity;
+        if (!isWriteBehind()) {
+            savedMsg = chatMessageRepository.save(chatMessageEntity);
+            countUnread(List.of(savedMsg));
+        }
+        ChatMessageDTO savedDTO = toDTO(savedMsg);
+        chatMessageCache.append(savedDTO);
+        // 채팅방 목록의 마지막 메시지가 바뀜
+        chatInboxCache.invalidateChat(savedDTO.getRoomId());
+        return savedDTO;
+    }
+
+    // 저장된 메시지의 안 읽은 수 반영 (실패해도 메시지 전송은 계속)
+    public void countUnread(List<ChatMessage> savedMessages) {
+        try {
+            chatService.addUnreadCounts(savedMessages);
+            savedMessages.stream().map(ChatMessage::getChatId).distinct().forEach(chatInboxCache::invalidateChat);
+        } catch (Exception e) {
+            log.error("안 읽은 메시지 수 갱신 실패: {}건", savedMessages.size(), e);
+        }
     }
 
     public ChatMessageDTO getLastMessage(Integer chatId) {
@@ -130,7 +206,79 @@ public class ChatMessageService {
     }
 
     public List<ChatMessageDTO> getChatHistory(Integer id) {
-        return chatMessageRepository.findByChatIdOrderByTimestampAsc(id).stream().map(msg -> new ChatMessageDTO(
+        return chatMessageRepository.findByChatIdOrderByTimestampAsc(id).stream().map(this::toDTO).toList();
+    }
+
+    /**
+     * 채팅방 메시지를 커서 기준으로 limit개만 조회합니다.
+     * before/after가 모두 없으면 가장 최근 메시지 limit개를 반환합니다.
+     */
+    public ChatHistorySlice getChatHistory(Integer chatId, String before, String after, int limit) {
+        if (before != null && after != null) {
+            throw new IllegalArgumentException("before and after cannot be used together");
+        }
+        int size = Math.max(1, Math.min(limit, MAX_HISTORY_LIMIT));
+        boolean forward = after != null;
+        // 최근 구간은 채팅방 링 버퍼에서, 버퍼 범위를 벗어나면 MongoDB에서 조회
+        List<ChatMessageDTO> fetched;
+        if (forward) {
+            ChatMessageCursor cursor = ChatMessageCursor.decode(after);
+            fetched = chatMessageCache.after(chatId, cursor, size).orElseGet(() -> toDTOs(
+                    chatMessageRepository.findAfter(chatId, cursor.getTimestamp(), toObjectId(cursor), PageRequest.of(0, size + 1, OLDEST_FIRST))));
+        } else if (before != null) {
+            ChatMessageCursor cursor = ChatMessageCursor.decode(before);
+            fetched = chatMessageCache.before(chatId, cursor, size).orElseGet(() -> toDTOs(
+                    chatMessageRepository.findBefore(chatId, cursor.getTimestamp(), toObjectId(cursor), PageRequest.of(0, size + 1, NEWEST_FIRST))));
+        } else {
+            fetched = chatMessageCache.latest(chatId, size, () -> toDTOs(
+                            chatMessageRepository.findByChatId(chatId, PageRequest.of(0, chatMessageCache.getPerRoom(), NEWEST_FIRST))))
+                    .orElseGet(() -> toDTOs(chatMessageRepository.findByChatId(chatId, PageRequest.of(0, size + 1, NEWEST_FIRST))));
+        }
+
+        boolean hasMore = fetched.size() > size;
+        List<ChatMessageDTO> messages = new ArrayList<>(hasMore ? fetched.subList(0, size) : fetched);
+        if (!forward) {
+            Collections.reverse(messages); // 항상 오래된 순으로 반환
+        }
+
+        String requestCursor = forward ? after : before;
+        String olderCursor = messages.isEmpty() ? requestCursor : cursorOf(messages.get(0));
+        String newerCursor = messages.isEmpty() ? requestCursor : cursorOf(messages.get(messages.size() - 1));
+        boolean hasOlder = forward || hasMore;
+        boolean hasNewer = forward ? hasMore : before != null;
+        return new ChatHistorySlice(messages, olderCursor, newerCursor, hasOlder, hasNewer);
+    }
+
+    private static String cursorOf(ChatMessageDTO message) {
+        return new ChatMessageCursor(message.getTimestamp(), message.getMessageId()).encode();
+    }
+
+    private List<ChatMessageDTO> toDTOs(List<ChatMessage> messages) {
+        return messages.stream().map(this::toDTO).toList();
+    }
+
+    private static ObjectId toObjectId(ChatMessageCursor cursor) {
+        if (!ObjectId.isValid(cursor.getMessageId())) {
+            throw new IllegalArgumentException("Invalid cursor message id: " + cursor.getMessageId());
+        }
+        return new ObjectId(cursor.getMessageId());
+    }
+
+    static ChatMessage toEntity(ChatMessageDTO dto) {
+        return new ChatMessage(
+                dto.getMessageId(),
+                dto.getMessageType(),
+                dto.getRoomId(),
+                dto.getMembershipId(),
+                dto.getUserName(),
+                dto.getMessage(),
+                dto.getImageUrl(),
+                dto.getTimestamp()
+        );
+    }
+
+    private ChatMessageDTO toDTO(ChatMessage msg) {
+        ChatMessageDTO dto = new ChatMessageDTO(
                 msg.getMessageType(),
                 msg.getChatId(),
                 msg.getSenderId(),
@@ -138,7 +286,9 @@ public class ChatMessageService {
                 msg.getContent(),
                 msg.getImageUrl(),
                 msg.getTimestamp()
-        )).toList();
+        );
+        dto.setMessageId(msg.getId());
+        return dto;
     }
 
     public List<ChatMessageDTO> getLatestMessagesByChatIds(List<Integer> chatIds) {
@@ -0,0 +1,202 @@
+package com.example.app.service;
+
+import com.example.app.util.JwtUtil;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.socket.messaging.SessionConnectEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 채팅방 접속(구독) 현황 레지스트리.
+ * STOMP CONNECT의 Authorization 헤더로 세션 사용자를 식별하고, /topic/chat/room/{id} 구독/해제/연결 종료 이벤트로
+ * 채팅방별 접속 사용자를 관리합니다. 같은 사용자가 여러 기기/탭으로 구독할 수 있으므로 구독 수를 센 뒤 0이 되면 제거합니다.
+ * 채팅방 맵은 roomId 기준으로 나눈 스트라이프별 락으로 보호하여 서로 다른 채팅방 갱신이 경합하지 않도록 합니다.
+ * 인증 여부와 관계없이 이 서버에 연결된 세션의 구독 destination별 구독 수도 함께 관리합니다 (Kafka 브로드캐스트 수신 시 전달 여부 판단).
+ */
+@Service
+public class ChatPresenceRegistry {
+    private static final Pattern CHAT_ROOM_DESTINATION = Pattern.compile("^/topic/chat/room/(\\d+)$");
+    private static final int STRIPES = 64;
+
+    private final JwtUtil jwtUtil;
+
+    // roomId 기준 스트라이프 (각 스트라이프가 자기 맵의 락)
+    private final Stripe[] stripes = new Stripe[STRIPES];
+    // STOMP 세션 ID -> 세션 사용자/구독 정보
+    private final ConcurrentHashMap<String, SessionState> sessions = new ConcurrentHashMap<>();
+    // destination -> 이 서버의 구독 수
+    private final ConcurrentHashMap<String, Integer> destinations = new ConcurrentHashMap<>();
+
+    public ChatPresenceRegistry(JwtUtil jwtUtil) {
+        this.jwtUtil = jwtUtil;
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    @EventListener
+    public void onConnect(SessionConnectEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Integer userId = resolveUserId(accessor.getFirstNativeHeader("Authorization"));
+        if (accessor.getSessionId() != null) {
+            sessions.put(accessor.getSessionId(), new SessionState(userId));
+        }
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String destination = accessor.getDestination();
+        SessionState session = accessor.getSessionId() == null ? null : sessions.get(accessor.getSessionId());
+        if (destination == null || session == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+        synchronized (session) {
+            if (session.subscriptions.putIfAbsent(accessor.getSubscriptionId(), destination) != null) {
+                return;
+            }
+        }
+        subscribed(session, destination);
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        SessionState session = accessor.getSessionId() == null ? null : sessions.get(accessor.getSessionId());
+        if (session == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+        String destination;
+        synchronized (session) {
+            destination = session.subscriptions.remove(accessor.getSubscriptionId());
+        }
+        if (destination != null) {
+            unsubscribed(session, destination);
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        SessionState session = sessions.remove(event.getSessionId());
+        if (session == null) {
+            return;
+        }
+        List<String> subscribed;
+        synchronized (session) {
+            subscribed = new ArrayList<>(session.subscriptions.values());
+            session.subscriptions.clear();
+        }
+        subscribed.forEach(destination -> unsubscribed(session, destination));
+    }
+
+    // 이 서버에 destination 구독자가 한 명이라도 있는지
+    public boolean hasLocalSubscribers(String destination) {
+        return destinations.containsKey(destination);
+    }
+
+    // STOMP 세션의 사용자 ID (CONNECT 시 인증되지 않았으면 null)
+    public Integer getUserId(String sessionId) {
+        SessionState session = sessionId == null ? null : sessions.get(sessionId);
+        return session == null ? null : session.userId;
+    }
+
+    // 사용자가 지금 이 채팅방을 보고 있는지 (이 서버에 연결된 세션 기준)
+    public boolean isPresent(Integer roomId, Integer userId) {
+        Stripe stripe = stripeOf(roomId);
+        synchronized (stripe) {
+            Map<Integer, Integer> users = stripe.rooms.get(roomId);
+            return users != null && users.containsKey(userId);
+        }
+    }
+
+    public Set<Integer> getPresentUserIds(Integer roomId) {
+        Stripe stripe = stripeOf(roomId);
+        synchronized (stripe) {
+            Map<Integer, Integer> users = stripe.rooms.get(roomId);
+            return users == null ? Set.of() : Set.copyOf(users.keySet());
+        }
+    }
+
+    private void subscribed(SessionState session, String destination) {
+        destinations.merge(destination, 1, Integer::sum);
+        Integer roomId = roomIdOf(destination);
+        if (roomId != null && session.userId != null) {
+            join(roomId, session.userId);
+        }
+    }
+
+    private void unsubscribed(SessionState session, String destination) {
+        destinations.computeIfPresent(destination, (k, count) -> count > 1 ? count - 1 : null);
+        Integer roomId = roomIdOf(destination);
+        if (roomId != null && session.userId != null) {
+            leave(roomId, session.userId);
+        }
+    }
+
+    private void join(Integer roomId, Integer userId) {
+        Stripe stripe = stripeOf(roomId);
+        synchronized (stripe) {
+            stripe.rooms.computeIfAbsent(roomId, k -> new HashMap<>()).merge(userId, 1, Integer::sum);
+        }
+    }
+
+    private void leave(Integer roomId, Integer userId) {
+        Stripe stripe = stripeOf(roomId);
+        synchronized (stripe) {
+            Map<Integer, Integer> users = stripe.rooms.get(roomId);
+            if (users == null) {
+                return;
+            }
+            users.computeIfPresent(userId, (k, count) -> count > 1 ? count - 1 : null);
+            if (users.isEmpty()) {
+                stripe.rooms.remove(roomId);
+            }
+        }
+    }
+
+    private Stripe stripeOf(Integer roomId) {
+        return stripes[Math.floorMod(roomId, STRIPES)];
+    }
+
+    private static Integer roomIdOf(String destination) {
+        if (destination == null) {
+            return null;
+        }
+        Matcher matcher = CHAT_ROOM_DESTINATION.matcher(destination);
+        return matcher.matches() ? Integer.valueOf(matcher.group(1)) : null;
+    }
+
+    private Integer resolveUserId(String authorization) {
+        if (authorization == null || authorization.isBlank()) {
+            return null;
+        }
+        String token = authorization.startsWith("Bearer ") ? authorization.substring(7) : authorization;
+        if (!jwtUtil.validateToken(token)) {
+            return null;
+        }
+        return jwtUtil.getMembershipId(token);
+    }
+
+    private static class Stripe {
+        // roomId -> (userId -> 구독 수), 이 스트라이프 락으로 보호
+        private final Map<Integer, Map<Integer, Integer>> rooms = new HashMap<>();
+    }
+
+    private static class SessionState {
+        private final Integer userId; // 인증되지 않은 세션이면 null
+        // 구독 ID -> destination
+        private final Map<String, String> subscriptions = new HashMap<>();
+
+        SessionState(Integer userId) {
+            this.userId = userId;
+        }
+    }
+}
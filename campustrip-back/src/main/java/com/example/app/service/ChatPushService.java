@@ -0,0 +1,246 @@
+package com.example.app.service;
+
+import com.example.app.domain.User;
+import com.example.app.dto.ChatMemberDTO;
+import com.example.app.dto.PushNotificationRequest;
+import com.example.app.enumtype.PushNotificationType;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 채팅 메시지 푸시 알림 파이프라인.
+ * 채팅 전송 경로는 enqueue만 하고, 워커 스레드가 채팅방 멤버 조회와 수신자별 알림 생성을 담당합니다.
+ * 같은 수신자/채팅방으로 짧은 시간 안에 여러 메시지가 오면 하나로 묶어 "새 메시지 N개"로 한 번만 보냅니다.
+ * 묶음 대기가 끝난 알림은 주기적으로 모아 FCMService.sendNotificationToUsers로 한 번에 보냅니다 (토큰 일괄 조회 + 멀티캐스트).
+ * 큐가 가득 차면 알림을 버리고(메시지 자체는 이미 전달됨) 버린 건수를 집계합니다.
+ * 채팅방을 구독 중인(화면을 보고 있는) 멤버는 메시지를 실시간으로 받으므로 알림을 보내지 않습니다.
+ */
+@Service
+@Slf4j
+public class ChatPushService {
+    // 알림 본문에 넣을 메시지 미리보기 최대 길이 (코드 포인트 기준)
+    private static final int MAX_PREVIEW_LENGTH = 100;
+
+    private final ChatService chatService;
+    private final UserService userService;
+    private final FCMService fcmService;
+    private final ChatPresenceRegistry presenceRegistry;
+
+    private final int workerCount;
+    private final long coalesceMillis;
+    private final long flushMillis;
+    private final BlockingQueue<ChatPushEvent> queue;
+    private final List<Thread> workers = new ArrayList<>();
+    private final ScheduledExecutorService flushScheduler;
+    // (수신자, 채팅방) -> 전송 대기 중인 묶음 알림
+    private final ConcurrentHashMap<Long, PendingPush> pending = new ConcurrentHashMap<>();
+    private volatile boolean running = true;
+
+    private final AtomicLong enqueued = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong suppressed = new AtomicLong();
+    private final AtomicLong sent = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    public ChatPushService(ChatService chatService, UserService userService, FCMService fcmService,
+                           ChatPresenceRegistry presenceRegistry,
+                           @Value("${chat.push.queue-capacity:10000}") int queueCapacity,
+                           @Value("${chat.push.workers:4}") int workerCount,
+                           @Value("${chat.push.coalesce-millis:1500}") long coalesceMillis,
+                           @Value("${chat.push.flush-millis:200}") long flushMillis) {
+        this.chatService = chatService;
+        this.userService = userService;
+        this.fcmService = fcmService;
+        this.presenceRegistry = presenceRegistry;
+        this.workerCount = workerCount;
+        this.coalesceMillis = coalesceMillis;
+        this.flushMillis = flushMillis;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.flushScheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("chat-push-send").factory());
+    }
+
+    @PostConstruct
+    public void start() {
+        for (int i = 0; i < workerCount; i++) {
+            Thread worker = Thread.ofPlatform().name("chat-push-fanout-" + i).start(this::runWorker);
+            workers.add(worker);
+        }
+        flushScheduler.scheduleWithFixedDelay(this::flushDue, flushMillis, flushMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        workers.forEach(Thread::interrupt);
+        flushScheduler.shutdown();
+    }
+
+    /**
+     * 채팅 메시지 알림 요청을 큐에 넣습니다. 블로킹하지 않으며, 큐가 가득 차면 버립니다.
+     *
+     * @param senderId 보낸 사람 ID (null이면 워커에서 senderName으로 조회)
+     */
+    public void enqueue(Integer roomId, Integer senderId, String senderName, String preview) {
+        if (queue.offer(new ChatPushEvent(roomId, senderId, senderName, truncate(preview)))) {
+            enqueued.incrementAndGet();
+        } else {
+            dropped.incrementAndGet();
+            log.warn("푸시 알림 큐가 가득 차 알림을 버립니다: roomId={}", roomId);
+        }
+    }
+
+    private void runWorker() {
+        while (running) {
+            try {
+                fanOut(queue.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("푸시 알림 대상 조회 실패", e);
+            }
+        }
+    }
+
+    // 채팅방 멤버(보낸 사람, 채팅방을 보고 있는 멤버 제외)별로 묶음 알림에 추가
+    private void fanOut(ChatPushEvent event) {
+        Integer senderId = event.getSenderId();
+        if (senderId == null) {
+            User sender = userService.getUserByName(event.getSenderName());
+            if (sender == null) {
+                log.error("사용자 정보를 찾을 수 없습니다: {}", event.getSenderName());
+                return;
+            }
+            senderId = sender.getId();
+        }
+        for (ChatMemberDTO member : chatService.getMembersByRoomId(event.getRoomId())) {
+            if (member.getUserId().equals(senderId)) continue; // 본인 제외
+            if (presenceRegistry.isPresent(event.getRoomId(), member.getUserId())) {
+                suppressed.incrementAndGet();
+                continue;
+            }
+            long key = ((long) member.getUserId() << 32) | (event.getRoomId() & 0xffffffffL);
+            Integer from = senderId;
+            long dueAt = System.currentTimeMillis() + coalesceMillis;
+            boolean[] created = {false};
+            pending.compute(key, (k, push) -> {
+                if (push == null) {
+                    created[0] = true;
+                    return new PendingPush(member.getUserId(), from, event.getRoomId(), member.getChatTitle(),
+                            event.getSenderName() + ": " + event.getPreview(), dueAt);
+                }
+                push.add(from, event.getSenderName() + ": " + event.getPreview());
+                return push;
+            });
+            if (!created[0]) {
+                coalesced.incrementAndGet();
+            }
+        }
+    }
+
+    // 묶음 대기 시간이 지난 알림을 모아 한 번에 전송
+    private void flushDue() {
+        long now = System.currentTimeMillis();
+        List<PushNotificationRequest> requests = new ArrayList<>();
+        for (Map.Entry<Long, PendingPush> entry : pending.entrySet()) {
+            PendingPush push = entry.getValue();
+            // compute로만 갱신되므로 맵에서 제거된 뒤에는 더 이상 바뀌지 않음
+            if (push.dueAt > now || !pending.remove(entry.getKey(), push)) {
+                continue;
+            }
+            if (presenceRegistry.isPresent(push.roomId, push.receiverId)) {
+                // 묶는 동안 채팅방에 들어온 경우
+                suppressed.incrementAndGet();
+                continue;
+            }
+            String body = push.count == 1 ? push.lastPreview : "새 메시지 " + push.count + "개 · " + push.lastPreview;
+            requests.add(new PushNotificationRequest(
+                    push.receiverId,
+                    push.senderId,
+                    PushNotificationType.CHAT_MESSAGE,
+                    push.roomId,
+                    push.chatTitle,
+                    body
+            ));
+        }
+        if (requests.isEmpty()) {
+            return;
+        }
+        try {
+            fcmService.sendNotificationToUsers(requests);
+            sent.addAndGet(requests.size());
+        } catch (Exception e) {
+            failed.addAndGet(requests.size());
+            log.error("푸시 알림 전송 실패: {}건, {}", requests.size(), e.getMessage());
+        }
+    }
+
+    // 긴 메시지는 FCM 페이로드 한도(4KB)를 넘지 않도록 잘라서 보냄
+    private static String truncate(String preview) {
+        if (preview == null || preview.codePointCount(0, preview.length()) <= MAX_PREVIEW_LENGTH) {
+            return preview;
+        }
+        return preview.substring(0, preview.offsetByCodePoints(0, MAX_PREVIEW_LENGTH)) + "…";
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("queueDepth", queue.size());
+        stats.put("queueRemaining", queue.remainingCapacity());
+        stats.put("pendingRecipients", pending.size());
+        stats.put("enqueued", enqueued.get());
+        stats.put("dropped", dropped.get());
+        stats.put("coalesced", coalesced.get());
+        stats.put("suppressedPresent", suppressed.get());
+        stats.put("sent", sent.get());
+        stats.put("failed", failed.get());
+        return stats;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class ChatPushEvent {
+        private final Integer roomId;
+        private final Integer senderId;
+        private final String senderName;
+        private final String preview;
+    }
+
+    private static class PendingPush {
+        private final Integer receiverId;
+        private final Integer roomId;
+        private final String chatTitle;
+        private Integer senderId;
+        private String lastPreview;
+        private final long dueAt;
+        private int count = 1;
+
+        PendingPush(Integer receiverId, Integer senderId, Integer roomId, String chatTitle, String preview, long dueAt) {
+            this.receiverId = receiverId;
+            this.dueAt = dueAt;
+            this.senderId = senderId;
+            this.roomId = roomId;
+            this.chatTitle = chatTitle;
+            this.lastPreview = preview;
+        }
+
+        void add(Integer senderId, String preview) {
+            this.senderId = senderId;
+            this.lastPreview = preview;
+            this.count++;
+        }
+    }
+}
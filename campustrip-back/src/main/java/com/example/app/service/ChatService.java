@@ -1,11 +1,13 @@
 package com.example.app.service;
 
 import com.example.app.domain.ChatMember;
+import com.example.app.domain.ChatMessage;
 import com.example.app.domain.Post;
 import com.example.app.dto.ChatMemberDTO;
 import com.example.app.repository.PostRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import com.example.app.repository.ChatRepository;
 import com.example.app.repository.ChatMemberRepository;
@@ -14,10 +16,18 @@ import com.example.app.domain.Chat;
 import com.example.app.domain.User;
 import com.example.app.dto.CreateChat;
 import com.example.app.dto.CreateChatMember;
+import com.example.app.enumtype.MessageType;
+import com.example.app.util.AfterCommit;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @Slf4j
@@ -26,25 +36,35 @@ public class ChatService {
     private final ChatMemberRepository chatMemberRepository;
     private final UserRepository userRepository;
     private final PostRepository postRepository;
+    private final PostFeedCache postFeedCache;
+    private final ChatInboxCache chatInboxCache;
 
     @Autowired
     public ChatService(ChatRepository chatRepository,
                        ChatMemberRepository chatMemberRepository,
-                       UserRepository userRepository, PostRepository postRepository) {
+                       UserRepository userRepository, PostRepository postRepository, PostFeedCache postFeedCache,
+                       ChatInboxCache chatInboxCache) {
         this.chatRepository = chatRepository;
         this.chatMemberRepository = chatMemberRepository;
         this.userRepository = userRepository;
         this.postRepository = postRepository;
+        this.postFeedCache = postFeedCache;
+        this.chatInboxCache = chatInboxCache;
     }
 
+    @Transactional
     public Chat saveChat(CreateChat createChat) {
-        Chat chat = chatRepository.save(createChat.toEntity());
+        Chat newChat = createChat.toEntity();
+        newChat.setMemberCount(1); // 방장
+        Chat chat = chatRepository.save(newChat);
         User user = userRepository.findById(createChat.getUserId()).orElseThrow();
         ChatMember member = new ChatMember(chat, user, true);
-        chatMemberRepository.save(member);
+        chatMemberRepository.insertAll(List.of(member));
+        AfterCommit.run(() -> chatInboxCache.invalidateUser(user.getId()));
         return chat;
     }
 
+    @Transactional
     public void saveChatMember(CreateChatMember createChatMember) {
         // DB에서 영속 상태의 엔티티 조회
         Chat chat = chatRepository.findById(createChatMember.getPost().getChat().getId())
@@ -52,24 +72,81 @@ public class ChatService {
         User user = userRepository.findById(createChatMember.getUser().getId())
                 .orElseThrow(() -> new IllegalArgumentException("User not found"));
 
+        // 존재 확인 없이 바로 INSERT: 이미 멤버이거나 동시에 참여한 경우 PK 중복으로 실패하며 카운트를 올리지 않음
         ChatMember chatMember = new ChatMember(chat, user, false);
-        chatMemberRepository.save(chatMember);
+        try {
+            chatMemberRepository.insertAll(List.of(chatMember));
+        } catch (DataIntegrityViolationException e) {
+            // flush가 실패한 세션은 더 쓸 수 없으므로 바뀐 것 없이 롤백으로 마무리
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            log.debug("이미 채팅방 멤버입니다: chatId={}, userId={}", chat.getId(), user.getId());
+            return;
+        }
+        chatRepository.addMemberCount(chat.getId(), 1);
+        AfterCommit.run(() -> {
+            postFeedCache.invalidateChat(chat.getId());
+            chatInboxCache.invalidateChat(chat.getId());
+            chatInboxCache.invalidateUser(user.getId());
+        });
     }
 
+    @Transactional
     public void deleteChatMember(CreateChatMember createChatMember) {
-        chatMemberRepository.deleteByChatAndUser(createChatMember.getPost().getChat(),
-                                                 createChatMember.getUser());
+        Chat chat = createChatMember.getPost().getChat();
+        int deleted = chatMemberRepository.deleteByChatAndUser(chat, createChatMember.getUser());
+        if (deleted > 0) {
+            chatRepository.addMemberCount(chat.getId(), -deleted);
+            AfterCommit.run(() -> {
+                postFeedCache.invalidateChat(chat.getId());
+                chatInboxCache.invalidateChat(chat.getId());
+            });
+        }
     }
 
+    // Chat.memberCount를 PK로 조회
     public Integer getNumberOfChatMembers(Chat chat) {
-        return chatMemberRepository.findAllByChat(chat).size();
+        Integer count = chatRepository.findMemberCountById(chat.getId());
+        return count == null ? 0 : count;
     }
 
-    public List<Chat> getMyChatRoom(Integer userId) {
-        User user = userRepository.findById(userId).orElseThrow();
-        return chatMemberRepository.findAllByUser(user).stream()
-                .map(ChatMember::getChat)
-                .toList();
+    // 여러 채팅방의 멤버 수를 chatId -> 멤버 수 Map으로 조회
+    public Map<Integer, Integer> getNumberOfChatMembersByChatIds(List<Integer> chatIds) {
+        if (chatIds == null || chatIds.isEmpty()) {
+            return new HashMap<>();
+        }
+        return chatRepository.findAllById(chatIds).stream()
+                .collect(Collectors.toMap(Chat::getId, Chat::getMemberCount));
+    }
+
+    // member_count와 실제 ChatMember 수의 불일치 보정 (회원 탈퇴 cascade 삭제 등 ChatService를 거치지 않은 변경 대비)
+    @Scheduled(cron = "${chat.member-count.reconcile-cron:0 0 4 * * *}")
+    @Transactional
+    public void reconcileMemberCounts() {
+        int repaired = chatRepository.reconcileMemberCounts();
+        if (repaired > 0) {
+            log.warn("채팅방 멤버 수 보정: {}개 채팅방", repaired);
+        }
+    }
+
+    /**
+     * 저장된 메시지만큼 받는 멤버들의 안 읽은 수를 올립니다. 입장/퇴장 메시지는 세지 않습니다.
+     * 메시지 시간까지 이미 읽음 처리한 멤버(채팅방을 보고 있던 멤버)는 제외됩니다.
+     */
+    @Transactional
+    public void addUnreadCounts(List<ChatMessage> messages) {
+        for (ChatMessage message : messages) {
+            if (message.getMessageType() == MessageType.JOIN || message.getMessageType() == MessageType.LEAVE) {
+                continue;
+            }
+            chatMemberRepository.incrementUnreadCount(message.getChatId(), message.getSenderId(), message.getTimestamp());
+        }
+    }
+
+    // 읽음 커서를 옮기고 안 읽은 수를 0으로 초기화
+    @Transactional
+    public void markRead(Integer chatId, Integer userId, String messageId, LocalDateTime readAt) {
+        chatMemberRepository.markRead(chatId, userId, messageId, readAt);
+        AfterCommit.run(() -> chatInboxCache.invalidateUser(userId));
     }
 
     public Integer getPostIdByChatId(Integer chatId) {
@@ -85,13 +162,27 @@ public class ChatService {
     public void removeChatMemberByPostAndUser(Integer postId, User user) {
         Post post = postRepository.findById(postId).orElseThrow(() -> new IllegalArgumentException("Post not found"));
         Chat chat = post.getChat();
-        chatMemberRepository.deleteByChatAndUser(chat, user);
+        int deleted = chatMemberRepository.deleteByChatAndUser(chat, user);
+        if (deleted > 0) {
+            chatRepository.addMemberCount(chat.getId(), -deleted);
+            AfterCommit.run(() -> {
+                postFeedCache.invalidateChat(chat.getId());
+                chatInboxCache.invalidateChat(chat.getId());
+            });
+        }
     }
 
     @Transactional
     public void removeChatMemberByChatAndUser(Integer chatId, User user) {
         Chat chat = chatRepository.findById(chatId).orElseThrow(() -> new IllegalArgumentException("Chat not found"));
-        chatMemberRepository.deleteByChatAndUser(chat, user);
+        int deleted = chatMemberRepository.deleteByChatAndUser(chat, user);
+        if (deleted > 0) {
+            chatRepository.addMemberCount(chatId, -deleted);
+            AfterCommit.run(() -> {
+                postFeedCache.invalidateChat(chatId);
+                chatInboxCache.invalidateChat(chatId);
+            });
+        }
     }
 
     @Transactional(readOnly = true)
@@ -1,21 +1,28 @@
 package com.example.app.service;
 
+import com.example.app.domain.PushNotification;
 import com.example.app.dto.PushNotificationRequest;
 import com.example.app.enumtype.PushNotificationType;
+import com.example.app.enumtype.PushSendResult;
 import com.example.app.repository.PushNotificationRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.auth.oauth2.GoogleCredentials;
-import com.google.firebase.messaging.FirebaseMessaging;
-import com.google.firebase.messaging.FirebaseMessagingException;
-import com.google.firebase.messaging.Message;
-import com.google.firebase.messaging.Notification;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Service;
 import java.io.IOException;
-import java.util.List;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Service
+@Slf4j
 public class FCMService {
 
     @Value("${fcm.api.url}")
@@ -29,39 +36,116 @@ public class FCMService {
 
     private final FCMTokenService tokenService;
     private final PushNotificationRepository pushNotificationRepository;
+    private final PushClient pushClient;
+    // 멀티캐스트 전송용 고정 크기 스레드 풀 (큐가 가득 차면 호출 스레드에서 실행하여 속도 조절)
+    private final ThreadPoolExecutor sendExecutor;
 
-    public FCMService(ObjectMapper objectMapper, FCMTokenService tokenService, PushNotificationRepository pushNotificationRepository) {
+    private final AtomicLong multicastCalls = new AtomicLong();
+    private final AtomicLong delivered = new AtomicLong();
+    private final AtomicLong invalidTokens = new AtomicLong();
+    private final AtomicLong retryableFailures = new AtomicLong();
+    private final AtomicLong otherFailures = new AtomicLong();
+
+    public FCMService(ObjectMapper objectMapper, FCMTokenService tokenService, PushNotificationRepository pushNotificationRepository,
+                      PushClient pushClient,
+                      @Value("${fcm.send.threads:4}") int sendThreads,
+                      @Value("${fcm.send.queue-capacity:1000}") int queueCapacity) {
         this.pushNotificationRepository = pushNotificationRepository;
         this.tokenService = tokenService;
+        this.pushClient = pushClient;
+        this.sendExecutor = new ThreadPoolExecutor(sendThreads, sendThreads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("fcm-send-", 0).factory(),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sendExecutor.shutdown();
     }
 
     // 사용자에게 알림 전송 (모든 디바이스) - DTO 기반
     public void sendNotificationToUser(PushNotificationRequest request) {
-        //알림 받을사람의 토큰 목록
-        List<String> tokens = tokenService.getTokensByMembershipId(request.getReceiverId());
-
-        for (String token : tokens) {
-            try {
-                sendMessageTo(token, request.getTitle(), request.getBody(), request.getType(), request.getReferenceId());
-            } catch (Exception e) {
-                // 실패한 토큰 삭제
-                tokenService.deleteToken(token);
+        sendNotificationToUsers(List.of(request));
+    }
+
+    /**
+     * 여러 알림을 한 번에 전송합니다.
+     * 수신자 토큰을 한 번에 조회한 뒤 제목/내용이 같은 알림끼리 묶어 토큰 500개 단위 멀티캐스트로 비동기 전송합니다.
+     */
+    public void sendNotificationToUsers(List<PushNotificationRequest> requests) {
+        Set<Integer> receiverIds = new HashSet<>();
+        requests.forEach(request -> receiverIds.add(request.getReceiverId()));
+        Map<Integer, List<String>> tokensByReceiver = tokenService.getTokensByMembershipIds(receiverIds);
+
+        Map<PushContent, List<String>> tokensByContent = new LinkedHashMap<>();
+        List<PushNotification> notifications = new ArrayList<>();
+        for (PushNotificationRequest request : requests) {
+            List<String> tokens = tokensByReceiver.getOrDefault(request.getReceiverId(), List.of());
+            if (!tokens.isEmpty()) {
+                PushContent content = new PushContent(request.getTitle(), request.getBody(), request.getType(), request.getReferenceId());
+                tokensByContent.computeIfAbsent(content, k -> new ArrayList<>()).addAll(tokens);
             }
+            if (request.getType() != PushNotificationType.CHAT_MESSAGE) {
+                notifications.add(request.toEntity());
+            }
+        }
+        if (!notifications.isEmpty()) {
+            pushNotificationRepository.saveAll(notifications);
         }
-        if (request.getType() != PushNotificationType.CHAT_MESSAGE)
-            pushNotificationRepository.save(request.toEntity());
+
+        tokensByContent.forEach((content, tokens) -> {
+            for (int from = 0; from < tokens.size(); from += PushClient.MAX_MULTICAST_TOKENS) {
+                List<String> batch = List.copyOf(tokens.subList(from, Math.min(from + PushClient.MAX_MULTICAST_TOKENS, tokens.size())));
+                sendExecutor.execute(() -> sendBatch(content, batch));
+            }
+        });
     }
 
     // 단일 토큰으로 알림 전송
-    public void sendMessageTo(String targetToken, String title, String body, PushNotificationType type, Integer referenceId) throws IOException, FirebaseMessagingException {
-        String message = FirebaseMessaging.getInstance().send(Message.builder()
-                .setNotification(Notification.builder()
-                        .setTitle(title)
-                        .setBody(body)
-                        .build())
-                .putData("type", String.valueOf(type))
-                .putData("referenceId", String.valueOf(referenceId))
-                .setToken(targetToken).build());
+    public void sendMessageTo(String targetToken, String title, String body, PushNotificationType type, Integer referenceId) {
+        sendBatch(new PushContent(title, body, type, referenceId), List.of(targetToken));
+    }
+
+    private void sendBatch(PushContent content, List<String> tokens) {
+        List<PushSendResult> results;
+        try {
+            results = pushClient.sendMulticast(tokens, content.title, content.body, Map.of(
+                    "type", String.valueOf(content.type),
+                    "referenceId", String.valueOf(content.referenceId)));
+        } catch (Exception e) {
+            otherFailures.addAndGet(tokens.size());
+            log.error("푸시 전송 실패: {}", e.getMessage());
+            return;
+        }
+        multicastCalls.incrementAndGet();
+
+        // 만료/삭제된 토큰만 삭제하고, 일시적 오류나 기타 오류는 토큰을 유지
+        List<String> invalid = new ArrayList<>();
+        for (int i = 0; i < tokens.size(); i++) {
+            switch (results.get(i)) {
+                case SUCCESS -> delivered.incrementAndGet();
+                case INVALID_TOKEN -> invalid.add(tokens.get(i));
+                case RETRYABLE -> retryableFailures.incrementAndGet();
+                case FAILED -> otherFailures.incrementAndGet();
+            }
+        }
+        if (!invalid.isEmpty()) {
+            invalidTokens.addAndGet(invalid.size());
+            tokenService.deleteTokens(invalid);
+        }
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("queueDepth", sendExecutor.getQueue().size());
+        stats.put("activeThreads", sendExecutor.getActiveCount());
+        stats.put("multicastCalls", multicastCalls.get());
+        stats.put("delivered", delivered.get());
+        stats.put("invalidTokensRemoved", invalidTokens.get());
+        stats.put("retryableFailures", retryableFailures.get());
+        stats.put("otherFailures", otherFailures.get());
+        return stats;
     }
 
     private String getAccessToken() throws IOException {
@@ -72,4 +156,14 @@ public class FCMService {
         googleCredentials.refreshIfExpired();
         return googleCredentials.getAccessToken().getTokenValue();
     }
+
+    // 멀티캐스트로 묶을 수 있는 알림 내용 (같은 내용이면 수신자가 달라도 한 번에 전송)
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    private static class PushContent {
+        private final String title;
+        private final String body;
+        private final PushNotificationType type;
+        private final int referenceId;
+    }
 }
@@ -7,7 +7,9 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -43,6 +45,22 @@ public class FCMTokenService {
                 .collect(Collectors.toList());
     }
 
+    // 여러 사용자의 토큰을 한 번에 조회 (membershipId -> 토큰 목록)
+    @Transactional(readOnly = true)
+    public Map<Integer, List<String>> getTokensByMembershipIds(Collection<Integer> membershipIds) {
+        return fcmTokenRepository.findByMembershipIdIn(membershipIds)
+                .stream()
+                .collect(Collectors.groupingBy(FCMToken::getMembershipId,
+                        Collectors.mapping(FCMToken::getToken, Collectors.toList())));
+    }
+
+    // 유효하지 않은 토큰 일괄 삭제
+    public void deleteTokens(Collection<String> tokens) {
+        if (!tokens.isEmpty()) {
+            fcmTokenRepository.deleteByTokenIn(tokens);
+        }
+    }
+
     // 특정 토큰 삭제 (유효하지 않은 토큰 처리)
     public void deleteToken(String token) {
         fcmTokenRepository.deleteByToken(token);
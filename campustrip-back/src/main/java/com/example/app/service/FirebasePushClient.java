@@ -0,0 +1,71 @@
+package com.example.app.service;
+
+import com.example.app.enumtype.PushSendResult;
+import com.google.firebase.ErrorCode;
+import com.google.firebase.messaging.*;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@ConditionalOnProperty(name = "fcm.client", havingValue = "firebase", matchIfMissing = true)
+@Slf4j
+public class FirebasePushClient implements PushClient {
+
+    @Override
+    public List<PushSendResult> sendMulticast(List<String> tokens, String title, String body, Map<String, String> data) {
+        MulticastMessage message = MulticastMessage.builder()
+                .setNotification(Notification.builder()
+                        .setTitle(title)
+                        .setBody(body)
+                        .build())
+                .putAllData(data)
+                .addAllTokens(tokens)
+                .build();
+        try {
+            BatchResponse response = FirebaseMessaging.getInstance().sendEachForMulticast(message);
+            List<PushSendResult> results = new ArrayList<>(tokens.size());
+            for (SendResponse sendResponse : response.getResponses()) {
+                results.add(sendResponse.isSuccessful() ? PushSendResult.SUCCESS : classify(sendResponse.getException()));
+            }
+            return results;
+        } catch (FirebaseMessagingException e) {
+            // 요청 전체 실패 (인증, 네트워크 등): 토큰 문제는 아니므로 삭제하지 않음
+            log.error("FCM 멀티캐스트 전송 실패: {}", e.getMessage());
+            return Collections.nCopies(tokens.size(), classifyRequest(e));
+        }
+    }
+
+    // 토큰별 결과: 만료/삭제(UNREGISTERED)와 다른 프로젝트 토큰(SENDER_ID_MISMATCH)만 토큰 문제로 봄
+    // (INVALID_ARGUMENT는 메시지 내용 오류일 수도 있으므로 토큰을 지우지 않음)
+    private static PushSendResult classify(FirebaseMessagingException e) {
+        MessagingErrorCode code = e == null ? null : e.getMessagingErrorCode();
+        if (code == null) {
+            return PushSendResult.FAILED;
+        }
+        return switch (code) {
+            case UNREGISTERED, SENDER_ID_MISMATCH -> PushSendResult.INVALID_TOKEN;
+            case UNAVAILABLE, INTERNAL, QUOTA_EXCEEDED -> PushSendResult.RETRYABLE;
+            default -> PushSendResult.FAILED;
+        };
+    }
+
+    // 요청 전체 실패: 토큰과 무관하므로 일시적 오류인지 여부만 구분
+    private static PushSendResult classifyRequest(FirebaseMessagingException e) {
+        MessagingErrorCode code = e.getMessagingErrorCode();
+        if (code == MessagingErrorCode.UNAVAILABLE || code == MessagingErrorCode.INTERNAL || code == MessagingErrorCode.QUOTA_EXCEEDED) {
+            return PushSendResult.RETRYABLE;
+        }
+        ErrorCode errorCode = e.getErrorCode();
+        if (errorCode == ErrorCode.UNAVAILABLE || errorCode == ErrorCode.INTERNAL
+                || errorCode == ErrorCode.DEADLINE_EXCEEDED || errorCode == ErrorCode.RESOURCE_EXHAUSTED) {
+            return PushSendResult.RETRYABLE;
+        }
+        return PushSendResult.FAILED;
+    }
+}
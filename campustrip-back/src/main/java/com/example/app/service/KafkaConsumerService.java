@@ -2,9 +2,12 @@ package com.example.app.service;
 
 import com.example.app.dto.ChatMessageDTO;
 import com.example.app.dto.LocationMessage;
+import com.example.app.util.KeyOrderedExecutor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
@@ -14,23 +17,60 @@ import org.springframework.stereotype.Service;
 public class KafkaConsumerService {
 
     private final SimpMessagingTemplate messagingTemplate;
+    private final ChatMessageCache chatMessageCache;
+    private final KeyOrderedExecutor chatDispatchExecutor;
+    private final ChatPresenceRegistry presenceRegistry;
+    private final LocationEngine locationEngine;
+    private final ProximityAlertService proximityAlertService;
 
-    // Kafka에서 메시지를 수신하여 WebSocket 구독자들에게 전송
+    // Kafka에서 메시지를 수신하여 WebSocket 구독자들에게 전송 (roomId 키 단일 토픽)
+    // 그룹 ID는 전달 모드(chat.kafka.delivery-mode)에 따라 공유 그룹 또는 인스턴스별 그룹
     @KafkaListener(
+            topics = "${chat.kafka.topic:chat-messages}",
+            groupId = "#{@kafkaDeliveryGroups.chatGroupId}",
+            containerFactory = "kafkaListenerContainerFactory"
+    )
+    public void consumeKeyedMessage(ConsumerRecord<String, ChatMessageDTO> record, Acknowledgment ack) {
+        dispatch(record.key(), record.value(), ack);
+    }
+
+    // 기존 채팅방별 토픽 구독: 이전 방식으로 발행된 메시지를 모두 소비한 뒤 chat.kafka.legacy-consumer.enabled=false로 중지
+    @KafkaListener(
+            id = "legacyChatListener",
             topicPattern = "chat-room-.*",  // 모든 채팅방 토픽 구독
-            groupId = "${spring.kafka.consumer.chat-group-id}",
+            groupId = "#{@kafkaDeliveryGroups.chatGroupId}",
             containerFactory = "kafkaListenerContainerFactory",
-            autoStartup = "true"
+            autoStartup = "${chat.kafka.legacy-consumer.enabled:true}"
     )
+    public void consumeLegacyMessage(ConsumerRecord<String, ChatMessageDTO> record, Acknowledgment ack) {
+        // 기존 토픽은 키가 없으므로 토픽 이름(채팅방)으로 샤딩
+        dispatch(record.key() != null ? record.key() : record.topic(), record.value(), ack);
+    }
+
+    // 같은 채팅방 메시지는 같은 샤드에서 순서대로, 다른 채팅방은 병렬로 처리 후 ack
+    private void dispatch(String key, ChatMessageDTO message, Acknowledgment ack) {
+        chatDispatchExecutor.submit(key, () -> {
+            try {
+                consumeMessage(message);
+            } finally {
+                ack.acknowledge();
+            }
+        });
+    }
+
     public void consumeMessage(ChatMessageDTO message) {
         try{
             log.info("Kafka 메시지 수신: {}", message.getMessage());
+            // 다른 서버에서 저장된 메시지도 이 서버의 채팅방 버퍼에 반영
+            chatMessageCache.append(message);
 
-            // WebSocket으로 해당 채팅방 구독자들에게 브로드캐스트
-            messagingTemplate.convertAndSend(
-                    "/topic/chat/room/" + message.getRoomId(),
-                    message
-            );
+            // 이 서버에 구독자가 있는 채팅방만 WebSocket으로 브로드캐스트
+            String destination = "/topic/chat/room/" + message.getRoomId();
+            if (!presenceRegistry.hasLocalSubscribers(destination)) {
+                log.debug("이 서버에 구독자가 없는 채팅방: {}", destination);
+                return;
+            }
+            messagingTemplate.convertAndSend(destination, message);
             log.info("WebSocket으로 메시지 전송 완료: /topic/chat/room/{}", message.getRoomId());
 
         } catch (Exception e) {
@@ -38,15 +78,28 @@ public class KafkaConsumerService {
         }
     }
 
-    @KafkaListener(topicPattern = "location-.*", groupId = "${spring.kafka.consumer.location-group-id}", containerFactory = "locationKafkaListenerContainerFactory")
+    // broadcast 모드의 인스턴스별 그룹은 latest부터 (위치는 heartbeat로 곧 다시 수신되므로 과거 위치를 다시 보내지 않음)
+    @KafkaListener(topicPattern = "location-.*", groupId = "#{@kafkaDeliveryGroups.locationGroupId}", containerFactory = "locationKafkaListenerContainerFactory",
+            properties = "auto.offset.reset=#{@kafkaDeliveryGroups.offsetReset}")
     public void consumeLocation(LocationMessage locationMessage) {
         try {
             String groupId = locationMessage.getGroupId();
-            log.info("✅ 위치 정보 수신: groupId={}, userId={}, location=({}, {})",
+            log.debug("✅ 위치 정보 수신: groupId={}, userId={}, location=({}, {})",
                     groupId, locationMessage.getUserId(),
                     locationMessage.getLatitude(), locationMessage.getLongitude());
 
+            // 그룹 중심 계산용 멤버 위치 반영 (알림 판정은 위치를 받은 서버에서)
+            proximityAlertService.observe(locationMessage);
+
+            // TALK은 마지막 위치로 저장했다가 tick마다 그룹 스냅샷으로 전송
+            if (locationEngine.absorb(locationMessage)) {
+                return;
+            }
+
             String destination = "/topic/location/" + groupId;
+            if (!presenceRegistry.hasLocalSubscribers(destination)) {
+                return;
+            }
 
             // 해당 그룹을 구독한 클라이언트들에게 전송
             messagingTemplate.convertAndSend(destination, locationMessage);
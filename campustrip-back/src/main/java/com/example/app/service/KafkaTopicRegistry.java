@@ -0,0 +1,173 @@
+package com.example.app.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.common.errors.TopicExistsException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 동적 토픽(location-{groupId} 등) 생성 레지스트리.
+ * 존재가 확인된 토픽은 동시성 Set에 보관하여 이후 전송은 브로커 조회 없이 바로 진행하고,
+ * 처음 보는 토픽은 하나의 AdminClient로 비동기 생성하면서 그 사이 들어온 작업을 토픽별로 순서대로 보관했다가 생성 완료 후 실행합니다.
+ * 대기 작업을 모두 실행할 때까지는 새 작업도 같은 대기열 뒤에 붙이고, 대기열이 빈 뒤에 준비 완료로 표시하여 순서를 지킵니다.
+ * 호출 스레드(STOMP 인바운드 등)는 어떤 경우에도 브로커 응답을 기다리지 않습니다.
+ */
+@Service
+@Slf4j
+public class KafkaTopicRegistry {
+    private final AdminClient adminClient;
+    private final ExecutorService ioExecutor;
+    private final int partitions;
+    private final short replicas;
+    private final int maxPending;
+
+    private final Set<String> readyTopics = ConcurrentHashMap.newKeySet();
+    // 생성 중인 토픽 -> 생성 완료 후 실행할 작업 (this 락으로 보호)
+    private final Map<String, List<Runnable>> provisioning = new HashMap<>();
+
+    private final AtomicLong created = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    public KafkaTopicRegistry(KafkaAdmin kafkaAdmin, ExecutorService ioExecutor,
+                              @Value("${kafka.topic-registry.partitions:3}") int partitions,
+                              @Value("${kafka.topic-registry.replicas:1}") short replicas,
+                              @Value("${kafka.topic-registry.max-pending:1000}") int maxPending) {
+        this.adminClient = AdminClient.create(kafkaAdmin.getConfigurationProperties());
+        this.ioExecutor = ioExecutor;
+        this.partitions = partitions;
+        this.replicas = replicas;
+        this.maxPending = maxPending;
+    }
+
+    // 기존 토픽 목록을 한 번 비동기로 읽어 둠 (실패해도 생성 요청 시 이미 있으면 준비 완료로 처리)
+    @PostConstruct
+    public void loadExistingTopics() {
+        adminClient.listTopics().names().toCompletionStage().whenComplete((names, ex) -> {
+            if (ex != null) {
+                log.warn("Kafka 토픽 목록 조회 실패: {}", ex.getMessage());
+                return;
+            }
+            synchronized (this) {
+                // 생성/대기 작업 실행 중인 토픽은 대기열이 빌 때 준비 완료로 표시됨
+                names.stream().filter(name -> !provisioning.containsKey(name)).forEach(readyTopics::add);
+            }
+            log.info("Kafka 토픽 {}개 확인", names.size());
+        });
+    }
+
+    @PreDestroy
+    public void close() {
+        adminClient.close();
+    }
+
+    public boolean isReady(String topic) {
+        return readyTopics.contains(topic);
+    }
+
+    /**
+     * 토픽이 준비되어 있으면 바로 실행하고, 아니면 토픽 생성을 시작(또는 진행 중인 생성에 합류)한 뒤 완료 후 실행합니다.
+     * 생성 대기 작업이 max-pending을 넘으면 버립니다.
+     */
+    public void whenReady(String topic, Runnable task) {
+        if (readyTopics.contains(topic)) {
+            task.run();
+            return;
+        }
+        boolean queued = false;
+        boolean start = false;
+        synchronized (this) {
+            if (!readyTopics.contains(topic)) {
+                List<Runnable> pending = provisioning.get(topic);
+                if (pending == null) {
+                    pending = new ArrayList<>();
+                    provisioning.put(topic, pending);
+                    start = true;
+                }
+                if (pending.size() >= maxPending) {
+                    dropped.incrementAndGet();
+                    return;
+                }
+                pending.add(task);
+                queued = true;
+            }
+        }
+        if (!queued) {
+            // 락을 기다리는 사이 생성 완료
+            task.run();
+        } else if (start) {
+            create(topic);
+        }
+    }
+
+    private void create(String topic) {
+        adminClient.createTopics(List.of(new NewTopic(topic, partitions, replicas))).all().toCompletionStage()
+                .whenComplete((result, ex) -> {
+                    Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                    if (cause == null || cause instanceof TopicExistsException) {
+                        if (cause == null) {
+                            created.incrementAndGet();
+                            log.info("✅ 토픽 생성 완료: {}", topic);
+                        }
+                        // AdminClient 스레드를 막지 않도록 대기 작업은 별도 스레드에서 순서대로 실행
+                        ioExecutor.execute(() -> drain(topic));
+                    } else {
+                        List<Runnable> pending;
+                        synchronized (this) {
+                            pending = provisioning.remove(topic);
+                        }
+                        failed.incrementAndGet();
+                        dropped.addAndGet(pending == null ? 0 : pending.size());
+                        log.error("❌ 토픽 생성 실패: {} (대기 작업 {}건 버림)", topic, pending == null ? 0 : pending.size(), cause);
+                    }
+                });
+    }
+
+    // 대기 작업을 순서대로 실행하고, 그 사이 추가된 작업까지 모두 실행한 뒤 준비 완료로 표시
+    private void drain(String topic) {
+        while (true) {
+            List<Runnable> batch;
+            synchronized (this) {
+                List<Runnable> pending = provisioning.get(topic);
+                if (pending == null || pending.isEmpty()) {
+                    provisioning.remove(topic);
+                    readyTopics.add(topic);
+                    return;
+                }
+                batch = new ArrayList<>(pending);
+                pending.clear();
+            }
+            batch.forEach(this::runQuietly);
+        }
+    }
+
+    private void runQuietly(Runnable task) {
+        try {
+            task.run();
+        } catch (Exception e) {
+            log.error("토픽 생성 후 대기 작업 실행 실패", e);
+        }
+    }
+
+    public synchronized Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("readyTopics", readyTopics.size());
+        stats.put("provisioning", provisioning.size());
+        stats.put("pendingTasks", provisioning.values().stream().mapToInt(List::size).sum());
+        stats.put("created", created.get());
+        stats.put("failed", failed.get());
+        stats.put("dropped", dropped.get());
+        return stats;
+    }
+}
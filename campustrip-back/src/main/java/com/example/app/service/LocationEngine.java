@@ -0,0 +1,296 @@
+package com.example.app.service;
+
+import com.example.app.dto.LocationMessage;
+import com.example.app.dto.LocationSnapshot;
+import com.example.app.util.GeoUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * 위치 공유 병합 엔진.
+ * 수신 측(LocationController)에서는 이동 거리/시간 기준 미만의 갱신을 Kafka 발행 전에 버리고,
+ * 전달 측(Kafka 소비)에서는 (그룹, 사용자)별 마지막 위치만 보관했다가 tick마다 바뀐 그룹의 전체 위치를 SNAPSHOT 한 건으로 보냅니다.
+ * 그룹별 멤버 위치는 userId(int) 기준 기본형 배열로 보관하며 그룹 락으로 보호합니다 (그룹 인원이 적어 선형 탐색).
+ * 병합 대상은 TALK뿐이며, ENTER/LEAVE는 기존처럼 바로 전달됩니다.
+ * 새 구독자는 LocationController의 @SubscribeMapping으로 현재 스냅샷을 바로 받습니다.
+ */
+@Service
+@Slf4j
+public class LocationEngine {
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ChatPresenceRegistry presenceRegistry;
+    private final double minDistanceMeters;
+    private final long minIntervalMillis;
+    private final long heartbeatMillis;
+    private final long staleMillis;
+
+    private final ConcurrentHashMap<Integer, GroupState> groups = new ConcurrentHashMap<>();
+
+    private final AtomicLong accepted = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong snapshots = new AtomicLong();
+
+    public LocationEngine(SimpMessagingTemplate messagingTemplate, ChatPresenceRegistry presenceRegistry,
+                          @Value("${location.engine.min-distance-meters:5}") double minDistanceMeters,
+                          @Value("${location.engine.min-interval-millis:500}") long minIntervalMillis,
+                          @Value("${location.engine.heartbeat-millis:10000}") long heartbeatMillis,
+                          @Value("${location.engine.stale-seconds:300}") long staleSeconds) {
+        this.messagingTemplate = messagingTemplate;
+        this.presenceRegistry = presenceRegistry;
+        this.minDistanceMeters = minDistanceMeters;
+        this.minIntervalMillis = minIntervalMillis;
+        this.heartbeatMillis = heartbeatMillis;
+        this.staleMillis = staleSeconds * 1000;
+    }
+
+    /**
+     * 수신한 위치를 Kafka로 발행할지 판단합니다.
+     * 마지막 발행 후 min-interval 미만이거나, min-distance 미만으로 움직였고 heartbeat 시간이 지나지 않았으면 버립니다.
+     */
+    public boolean shouldPublish(LocationMessage location) {
+        int groupId = parseId(location.getGroupId());
+        int userId = parseId(location.getUserId());
+        if (groupId < 0 || userId < 0 || !"TALK".equals(location.getType())) {
+            if (groupId >= 0 && userId >= 0) {
+                withGroup(groupId, group -> group.clearSent(userId));
+            }
+            return true;
+        }
+        long now = location.getTimestamp() > 0 ? location.getTimestamp() : System.currentTimeMillis();
+        boolean[] publish = {false};
+        withGroup(groupId, group -> {
+            int i = group.slot(userId);
+            long elapsed = now - group.sentAt[i];
+            if (group.sentAt[i] != 0) {
+                if (elapsed < minIntervalMillis) {
+                    return;
+                }
+                double moved = GeoUtils.distanceMeters(group.sentLat[i], group.sentLng[i], location.getLatitude(), location.getLongitude());
+                if (moved < minDistanceMeters && elapsed < heartbeatMillis) {
+                    return;
+                }
+            }
+            group.sentLat[i] = location.getLatitude();
+            group.sentLng[i] = location.getLongitude();
+            group.sentAt[i] = now;
+            publish[0] = true;
+        });
+        (publish[0] ? accepted : dropped).incrementAndGet();
+        return publish[0];
+    }
+
+    /**
+     * Kafka로 받은 위치를 마지막 위치로 저장합니다.
+     * 저장했으면 true (다음 tick 스냅샷으로 전달), ENTER/LEAVE나 숫자가 아닌 ID는 false (호출 측에서 바로 전달)
+     */
+    public boolean absorb(LocationMessage location) {
+        int groupId = parseId(location.getGroupId());
+        int userId = parseId(location.getUserId());
+        if (groupId < 0 || userId < 0) {
+            return false;
+        }
+        if ("LEAVE".equals(location.getType())) {
+            withGroup(groupId, group -> group.remove(userId));
+            return false;
+        }
+        if (!"TALK".equals(location.getType())) {
+            return false;
+        }
+        long timestamp = location.getTimestamp() > 0 ? location.getTimestamp() : System.currentTimeMillis();
+        withGroup(groupId, group -> {
+            int i = group.slot(userId);
+            if (timestamp < group.updatedAt[i]) {
+                return; // 늦게 도착한 이전 위치
+            }
+            group.lat[i] = location.getLatitude();
+            group.lng[i] = location.getLongitude();
+            group.updatedAt[i] = timestamp;
+            group.names[i] = location.getUserName();
+            group.dirty = true;
+        });
+        return true;
+    }
+
+    // 그룹의 현재 위치 스냅샷 (새 구독자용, 기록이 없으면 빈 목록)
+    public LocationSnapshot getSnapshot(String groupId) {
+        long now = System.currentTimeMillis();
+        int id = parseId(groupId);
+        GroupState group = id < 0 ? null : groups.get(id);
+        if (group == null) {
+            return new LocationSnapshot(groupId, List.of(), now);
+        }
+        synchronized (group) {
+            return new LocationSnapshot(groupId, group.snapshot(groupId), now);
+        }
+    }
+
+    // 바뀐 그룹만 이 서버 구독자에게 SNAPSHOT 전송, 오래 갱신이 없는 멤버/그룹 정리
+    @Scheduled(fixedRateString = "${location.engine.tick-millis:1000}")
+    public void tick() {
+        long now = System.currentTimeMillis();
+        for (Map.Entry<Integer, GroupState> entry : groups.entrySet()) {
+            Integer groupId = entry.getKey();
+            GroupState group = entry.getValue();
+            List<LocationMessage> locations = null;
+            synchronized (group) {
+                group.evictStale(now - staleMillis);
+                if (group.size == 0) {
+                    group.removed = true;
+                    groups.remove(groupId, group);
+                    continue;
+                }
+                if (group.dirty) {
+                    group.dirty = false;
+                    if (presenceRegistry.hasLocalSubscribers("/topic/location/" + groupId)) {
+                        locations = group.snapshot(String.valueOf(groupId));
+                    }
+                }
+            }
+            if (locations != null && !locations.isEmpty()) {
+                messagingTemplate.convertAndSend("/topic/location/" + groupId, new LocationSnapshot(String.valueOf(groupId), locations, now));
+                snapshots.incrementAndGet();
+            }
+        }
+    }
+
+    public Map<String, Object> stats() {
+        int members = 0;
+        for (GroupState group : groups.values()) {
+            synchronized (group) {
+                members += group.size;
+            }
+        }
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("groups", groups.size());
+        stats.put("members", members);
+        stats.put("accepted", accepted.get());
+        stats.put("dropped", dropped.get());
+        stats.put("snapshotsSent", snapshots.get());
+        return stats;
+    }
+
+    // tick에서 제거된 그룹에 쓰지 않도록 제거 표시를 확인하고 다시 조회
+    private void withGroup(int groupId, Consumer<GroupState> action) {
+        while (true) {
+            GroupState group = groups.computeIfAbsent(groupId, k -> new GroupState());
+            synchronized (group) {
+                if (!group.removed) {
+                    action.accept(group);
+                    return;
+                }
+            }
+        }
+    }
+
+    private static int parseId(String id) {
+        if (id == null) {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(id);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static class GroupState {
+        private int size;
+        private int[] userIds = new int[4];
+        // 마지막 수신 위치 (Kafka 소비 측)
+        private double[] lat = new double[4];
+        private double[] lng = new double[4];
+        private long[] updatedAt = new long[4];
+        private String[] names = new String[4];
+        // 마지막 발행 위치 (수신 측 필터)
+        private double[] sentLat = new double[4];
+        private double[] sentLng = new double[4];
+        private long[] sentAt = new long[4];
+        private boolean dirty;
+        private boolean removed;
+
+        int slot(int userId) {
+            for (int i = 0; i < size; i++) {
+                if (userIds[i] == userId) {
+                    return i;
+                }
+            }
+            if (size == userIds.length) {
+                int capacity = size * 2;
+                userIds = Arrays.copyOf(userIds, capacity);
+                lat = Arrays.copyOf(lat, capacity);
+                lng = Arrays.copyOf(lng, capacity);
+                updatedAt = Arrays.copyOf(updatedAt, capacity);
+                names = Arrays.copyOf(names, capacity);
+                sentLat = Arrays.copyOf(sentLat, capacity);
+                sentLng = Arrays.copyOf(sentLng, capacity);
+                sentAt = Arrays.copyOf(sentAt, capacity);
+            }
+            int i = size++;
+            userIds[i] = userId;
+            updatedAt[i] = 0;
+            sentAt[i] = 0;
+            names[i] = null;
+            return i;
+        }
+
+        void clearSent(int userId) {
+            for (int i = 0; i < size; i++) {
+                if (userIds[i] == userId) {
+                    sentAt[i] = 0;
+                    return;
+                }
+            }
+        }
+
+        void remove(int userId) {
+            for (int i = 0; i < size; i++) {
+                if (userIds[i] == userId) {
+                    removeAt(i);
+                    dirty = true;
+                    return;
+                }
+            }
+        }
+
+        // 마지막 수신/발행이 모두 threshold 이전인 멤버 제거
+        void evictStale(long threshold) {
+            for (int i = size - 1; i >= 0; i--) {
+                if (updatedAt[i] < threshold && sentAt[i] < threshold) {
+                    removeAt(i);
+                }
+            }
+        }
+
+        List<LocationMessage> snapshot(String groupId) {
+            List<LocationMessage> locations = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                if (updatedAt[i] > 0) {
+                    locations.add(new LocationMessage("TALK", String.valueOf(userIds[i]), names[i], groupId, lat[i], lng[i], updatedAt[i]));
+                }
+            }
+            return locations;
+        }
+
+        // 마지막 멤버를 빈 자리로 옮김
+        private void removeAt(int i) {
+            int last = --size;
+            userIds[i] = userIds[last];
+            lat[i] = lat[last];
+            lng[i] = lng[last];
+            updatedAt[i] = updatedAt[last];
+            names[i] = names[last];
+            sentLat[i] = sentLat[last];
+            sentLng[i] = sentLng[last];
+            sentAt[i] = sentAt[last];
+            names[last] = null;
+        }
+    }
+}
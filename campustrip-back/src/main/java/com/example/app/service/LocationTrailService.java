@@ -0,0 +1,351 @@
+package com.example.app.service;
+
+import com.example.app.domain.LocationTrail;
+import com.example.app.dto.LocationMessage;
+import com.example.app.dto.LocationTrailDTO;
+import com.example.app.dto.TrailPoint;
+import com.example.app.repository.LocationTrailRepository;
+import com.example.app.util.GeoUtils;
+import com.example.app.util.PolylineCodec;
+import com.mongodb.bulk.BulkWriteError;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 위치 궤적 저장소.
+ * 위치 토픽을 공유 컨슈머 그룹(location.trail.group-id)으로 한 번만 소비하여 (그룹, 멤버, 날짜)별 버퍼에 모으고,
+ * flush-millis마다 store-tolerance-meters로 Douglas–Peucker 단순화한 뒤 PolylineCodec 청크 하나로 인코딩하여
+ * 하루 한 문서(location_trails)의 chunks 배열에 추가합니다.
+ * 직선 이동/정지 구간은 단순화로 대부분 사라지고 남은 점도 약 3바이트이므로, 6명 그룹의 하루 궤적이 수십 KB 안에 들어갑니다.
+ * flush 전에 저장된 문서의 endTime을 한 번에 읽어 그 이하의 점만 버리므로, Kafka 재처리로 이미 저장된 구간과
+ * 새 구간이 섞여 들어와도 새 구간은 저장됩니다.
+ * 버퍼는 메모리에만 있으므로 서버가 비정상 종료되면 마지막 flush 이후 구간은 남지 않습니다.
+ */
+@Service
+@Slf4j
+public class LocationTrailService {
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final int DUPLICATE_KEY = 11000;
+
+    private final MongoTemplate mongoTemplate;
+    private final LocationTrailRepository locationTrailRepository;
+    private final double storeToleranceMeters;
+
+    // 버퍼 키: LocationTrail.idOf(groupId, userId, day), this 락으로 보호하고 flush 때 통째로 교체
+    private Map<String, TrailBuffer> buffers = new HashMap<>();
+
+    private final AtomicLong received = new AtomicLong();
+    private final AtomicLong stored = new AtomicLong();
+    private final AtomicLong storedBytes = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    public LocationTrailService(MongoTemplate mongoTemplate, LocationTrailRepository locationTrailRepository,
+                                @Value("${location.trail.store-tolerance-meters:3}") double storeToleranceMeters) {
+        this.mongoTemplate = mongoTemplate;
+        this.locationTrailRepository = locationTrailRepository;
+        this.storeToleranceMeters = storeToleranceMeters;
+    }
+
+    @KafkaListener(
+            id = "locationTrailWriter",
+            topicPattern = "location-.*",
+            groupId = "${location.trail.group-id:location-trail}",
+            containerFactory = "locationKafkaListenerContainerFactory",
+            autoStartup = "${location.trail.enabled:true}"
+    )
+    public void consume(LocationMessage location) {
+        try {
+            append(location);
+        } catch (Exception e) {
+            log.error("위치 궤적 버퍼 추가 실패", e);
+        }
+    }
+
+    // TALK만 궤적에 기록 (ENTER/LEAVE는 공유 시작/종료 신호)
+    public void append(LocationMessage location) {
+        if (!"TALK".equals(location.getType()) || location.getTimestamp() <= 0) {
+            return;
+        }
+        Integer groupId;
+        Integer userId;
+        try {
+            groupId = Integer.valueOf(location.getGroupId());
+            userId = Integer.valueOf(location.getUserId());
+        } catch (NumberFormatException e) {
+            return;
+        }
+        received.incrementAndGet();
+        LocalDate date = Instant.ofEpochMilli(location.getTimestamp()).atZone(KST).toLocalDate();
+        String day = date.toString();
+        String id = LocationTrail.idOf(groupId, userId, day);
+        synchronized (this) {
+            TrailBuffer buffer = buffers.get(id);
+            if (buffer == null) {
+                buffer = new TrailBuffer(groupId, userId, day, date.atStartOfDay(KST).toInstant().toEpochMilli());
+                buffers.put(id, buffer);
+            }
+            buffer.add(location);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${location.trail.flush-millis:300000}")
+    public void flush() {
+        Map<String, TrailBuffer> pending;
+        synchronized (this) {
+            if (buffers.isEmpty()) {
+                return;
+            }
+            pending = buffers;
+            buffers = new HashMap<>();
+        }
+        Map<String, Long> storedEndTimes = loadEndTimes(pending.keySet());
+        List<TrailBuffer> writes = new ArrayList<>(pending.size());
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, LocationTrail.class);
+        for (Map.Entry<String, TrailBuffer> entry : pending.entrySet()) {
+            TrailBuffer buffer = entry.getValue();
+            Long storedEndTime = storedEndTimes.get(entry.getKey());
+            if (storedEndTime != null) {
+                // 이미 저장된 구간(endTime 이하)의 점만 버리고 이후 점은 저장
+                skipped.addAndGet(buffer.dropThrough(storedEndTime));
+                if (buffer.count == 0) {
+                    continue;
+                }
+            }
+            byte[] chunk = buffer.encode(storeToleranceMeters);
+            // 조회 후 다른 flush가 먼저 저장한 경우에는 조건이 맞지 않아 upsert가 중복 키로 실패 -> 건너뜀
+            Query query = new Query(Criteria.where("_id").is(entry.getKey()).and("endTime").lt(buffer.startTime));
+            Update update = new Update()
+                    .setOnInsert("groupId", buffer.groupId)
+                    .setOnInsert("userId", buffer.userId)
+                    .setOnInsert("day", buffer.day)
+                    .setOnInsert("dayStart", buffer.dayStart)
+                    .setOnInsert("startTime", buffer.startTime)
+                    .set("userName", buffer.userName)
+                    .set("endTime", buffer.endTime)
+                    .inc("pointCount", buffer.encodedCount)
+                    .push("chunks", chunk);
+            bulk.upsert(query, update);
+            buffer.encodedBytes = chunk.length;
+            writes.add(buffer);
+        }
+        if (writes.isEmpty()) {
+            return;
+        }
+        Set<Integer> duplicateIndexes = new HashSet<>();
+        Set<Integer> failedIndexes = new HashSet<>();
+        try {
+            bulk.execute();
+        } catch (BulkOperationException e) {
+            for (BulkWriteError error : e.getErrors()) {
+                if (error.getCode() == DUPLICATE_KEY) {
+                    duplicateIndexes.add(error.getIndex());
+                } else {
+                    log.error("위치 궤적 저장 실패: {}", error.getMessage());
+                    failedIndexes.add(error.getIndex());
+                }
+            }
+        } catch (Exception e) {
+            log.error("위치 궤적 저장 실패 ({}건 버림)", writes.size(), e);
+            writes.forEach(buffer -> failed.addAndGet(buffer.count));
+            return;
+        }
+        for (int i = 0; i < writes.size(); i++) {
+            TrailBuffer buffer = writes.get(i);
+            if (duplicateIndexes.contains(i)) {
+                skipped.addAndGet(buffer.count);
+            } else if (failedIndexes.contains(i)) {
+                failed.addAndGet(buffer.count);
+            } else {
+                stored.addAndGet(buffer.encodedCount);
+                storedBytes.addAndGet(buffer.encodedBytes);
+            }
+        }
+        log.debug("위치 궤적 {}건 저장", writes.size() - duplicateIndexes.size() - failedIndexes.size());
+    }
+
+    // 버퍼 키에 해당하는 문서의 endTime (문서가 없으면 포함하지 않음)
+    private Map<String, Long> loadEndTimes(Collection<String> ids) {
+        Query query = new Query(Criteria.where("_id").in(ids));
+        query.fields().include("endTime");
+        Map<String, Long> endTimes = new HashMap<>();
+        try {
+            for (LocationTrail trail : mongoTemplate.find(query, LocationTrail.class)) {
+                endTimes.put(trail.getId(), trail.getEndTime());
+            }
+        } catch (Exception e) {
+            // 조회 실패 시 upsert 조건(endTime < startTime)만으로 중복 저장을 막음
+            log.warn("위치 궤적 endTime 조회 실패: {}", e.getMessage());
+        }
+        return endTimes;
+    }
+
+    @PreDestroy
+    public void close() {
+        flush();
+    }
+
+    /**
+     * 그룹의 하루 궤적을 멤버별로 조회합니다.
+     * from/to(epoch millis)로 구간을 자르고, toleranceMeters > 0이면 지도 표시용으로 Douglas–Peucker 단순화합니다.
+     */
+    public List<LocationTrailDTO> getTrails(Integer groupId, LocalDate date, Long from, Long to, double toleranceMeters) {
+        List<LocationTrailDTO> trails = new ArrayList<>();
+        for (LocationTrail trail : locationTrailRepository.findByGroupIdAndDay(groupId, date.toString())) {
+            if ((from != null && trail.getEndTime() < from) || (to != null && trail.getStartTime() > to)) {
+                continue;
+            }
+            int size = 0;
+            double[] lat = new double[Math.max(1, trail.getPointCount())];
+            double[] lng = new double[lat.length];
+            long[] time = new long[lat.length];
+            for (byte[] chunk : trail.getChunks()) {
+                int[] decoded = PolylineCodec.decode(chunk);
+                for (int i = 0; i < decoded.length; i += 3) {
+                    long timestamp = trail.getDayStart() + decoded[i] * 1000L;
+                    if ((from != null && timestamp < from) || (to != null && timestamp > to)) {
+                        continue;
+                    }
+                    if (size == lat.length) {
+                        lat = Arrays.copyOf(lat, size * 2);
+                        lng = Arrays.copyOf(lng, size * 2);
+                        time = Arrays.copyOf(time, size * 2);
+                    }
+                    lat[size] = PolylineCodec.toDegrees(decoded[i + 1]);
+                    lng[size] = PolylineCodec.toDegrees(decoded[i + 2]);
+                    time[size] = timestamp;
+                    size++;
+                }
+            }
+            int[] indexes = GeoUtils.simplify(lat, lng, size, toleranceMeters);
+            List<TrailPoint> points = new ArrayList<>(indexes.length);
+            for (int i : indexes) {
+                points.add(new TrailPoint(lat[i], lng[i], time[i]));
+            }
+            trails.add(new LocationTrailDTO(trail.getUserId(), trail.getUserName(), size, points));
+        }
+        return trails;
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        synchronized (this) {
+            stats.put("buffers", buffers.size());
+            stats.put("bufferedPoints", buffers.values().stream().mapToInt(buffer -> buffer.count).sum());
+        }
+        stats.put("received", received.get());
+        stats.put("storedPoints", stored.get());
+        stats.put("storedBytes", storedBytes.get());
+        stats.put("skippedPoints", skipped.get());
+        stats.put("failedPoints", failed.get());
+        return stats;
+    }
+
+    // flush 전까지 (그룹, 멤버, 날짜)별로 모아 두는 점 (날짜 시작 기준 초, 1e-5도 정수)
+    private static class TrailBuffer {
+        private final Integer groupId;
+        private final Integer userId;
+        private final String day;
+        private final long dayStart;
+        private String userName;
+        private int count;
+        private int[] seconds = new int[16];
+        private int[] lat = new int[16];
+        private int[] lng = new int[16];
+        private long startTime;
+        private long endTime;
+        private int encodedCount;
+        private int encodedBytes;
+
+        TrailBuffer(Integer groupId, Integer userId, String day, long dayStart) {
+            this.groupId = groupId;
+            this.userId = userId;
+            this.day = day;
+            this.dayStart = dayStart;
+        }
+
+        void add(LocationMessage location) {
+            int second = (int) ((location.getTimestamp() - dayStart) / 1000);
+            int fixedLat = PolylineCodec.toFixed(location.getLatitude());
+            int fixedLng = PolylineCodec.toFixed(location.getLongitude());
+            if (count > 0) {
+                // 늦게 도착한 점, 같은 초의 점, 같은 좌표의 점은 기록하지 않음
+                int last = count - 1;
+                if (second <= seconds[last] || (fixedLat == lat[last] && fixedLng == lng[last])) {
+                    return;
+                }
+            } else {
+                startTime = location.getTimestamp();
+            }
+            if (count == seconds.length) {
+                seconds = Arrays.copyOf(seconds, count * 2);
+                lat = Arrays.copyOf(lat, count * 2);
+                lng = Arrays.copyOf(lng, count * 2);
+            }
+            seconds[count] = second;
+            lat[count] = fixedLat;
+            lng[count] = fixedLng;
+            count++;
+            endTime = location.getTimestamp();
+            userName = location.getUserName();
+        }
+
+        // storedEndTime(epoch millis) 이하의 점을 앞에서부터 버리고 버린 개수를 반환
+        // 같은 초의 점은 add에서 이미 걸러지므로 초 단위로 비교해도 저장된 마지막 점 이후의 점은 남음
+        int dropThrough(long storedEndTime) {
+            long endSecond = Math.floorDiv(storedEndTime - dayStart, 1000L);
+            int from = 0;
+            while (from < count && seconds[from] <= endSecond) {
+                from++;
+            }
+            if (from == 0) {
+                return 0;
+            }
+            count -= from;
+            System.arraycopy(seconds, from, seconds, 0, count);
+            System.arraycopy(lat, from, lat, 0, count);
+            System.arraycopy(lng, from, lng, 0, count);
+            if (count > 0) {
+                startTime = dayStart + seconds[0] * 1000L;
+            }
+            return from;
+        }
+
+        // 단순화 후 남은 점을 청크 하나로 인코딩
+        byte[] encode(double toleranceMeters) {
+            double[] latDegrees = new double[count];
+            double[] lngDegrees = new double[count];
+            for (int i = 0; i < count; i++) {
+                latDegrees[i] = PolylineCodec.toDegrees(lat[i]);
+                lngDegrees[i] = PolylineCodec.toDegrees(lng[i]);
+            }
+            int[] indexes = GeoUtils.simplify(latDegrees, lngDegrees, count, toleranceMeters);
+            int[] keptSeconds = new int[indexes.length];
+            int[] keptLat = new int[indexes.length];
+            int[] keptLng = new int[indexes.length];
+            for (int i = 0; i < indexes.length; i++) {
+                keptSeconds[i] = seconds[indexes[i]];
+                keptLat[i] = lat[indexes[i]];
+                keptLng[i] = lng[indexes[i]];
+            }
+            encodedCount = indexes.length;
+            return PolylineCodec.encode(keptSeconds, keptLat, keptLng, indexes.length);
+        }
+    }
+}
@@ -43,14 +43,7 @@ public class PlannerService {
         plannerRepository.save(planner);
 
         if (createPlanner.getSchedules() != null) {
-            for (PlannerDetailDTO detailDTO : createPlanner.getSchedules()) {
-                PlannerDetail detail = new PlannerDetail(
-                        new PlannerDetailId(detailDTO.getPlannerOrder(), planner.getPlannerId(), detailDTO.getDay()),
-                        planner,
-                        detailDTO.getGooglePlaceId()
-                );
-                plannerDetailRepository.save(detail);
-            }
+            plannerDetailRepository.insertAll(toDetails(planner, createPlanner.getSchedules()));
         }
         return planner;
     }
@@ -67,18 +60,24 @@ public class PlannerService {
         plannerDetailRepository.deleteByPlannerPlannerId(plannerId);
 
         if (createPlanner.getSchedules() != null) {
-            for (PlannerDetailDTO detailDTO : createPlanner.getSchedules()) {
-                PlannerDetail detail = new PlannerDetail(
-                        new PlannerDetailId(detailDTO.getPlannerOrder(), planner.getPlannerId(), detailDTO.getDay()),
-                        planner,
-                        detailDTO.getGooglePlaceId()
-                );
-                plannerDetailRepository.save(detail);
-            }
+            plannerDetailRepository.insertAll(toDetails(planner, createPlanner.getSchedules()));
         }
         return plannerRepository.save(planner);
     }
 
+    private List<PlannerDetail> toDetails(Planner planner, List<PlannerDetailDTO> schedules) {
+        return schedules.stream()
+                .map(detailDTO -> new PlannerDetail(
+                        new PlannerDetailId(detailDTO.getPlannerOrder(), planner.getPlannerId(), detailDTO.getDay()),
+                        planner,
+                        detailDTO.getGooglePlaceId(),
+                        detailDTO.getPlaceName(),
+                        detailDTO.getLatitude(),
+                        detailDTO.getLongitude()
+                ))
+                .toList();
+    }
+
     public List<Planner> findAllByUserId(Integer memberId) {
         return plannerRepository.findAllByUserId(memberId);
     }
@@ -105,7 +104,10 @@ public class PlannerService {
                     .map(d -> new PlannerDetailDTO(
                             d.getId().getPlannerOrder(),
                             d.getId().getDay(),
-                            d.getGooglePlaceId()
+                            d.getGooglePlaceId(),
+                            d.getPlaceName(),
+                            d.getLatitude(),
+                            d.getLongitude()
                     ))
                     .toList();
 
@@ -0,0 +1,207 @@
+package com.example.app.service;
+
+import com.example.app.domain.Post;
+import com.example.app.domain.Region;
+import com.example.app.dto.PostDTO;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 게시글 목록(피드) 페이지 캐시.
+ * (대학교, 지역, 검색어, 페이지) 조합별로 DTO 변환이 끝난 페이지를 LRU + TTL로 보관합니다.
+ * 게시글 생성/삭제/수정 시에는 해당 게시글이 조건에 맞는 피드만, 멤버/신청 변경 시에는 해당 게시글을 포함한 페이지만 무효화합니다.
+ */
+@Service
+@Slf4j
+public class PostFeedCache {
+    private final int maxSize;
+    private final long ttlMillis;
+
+    // accessOrder=true 로 LRU 순서 유지, 모든 접근은 this 락으로 보호
+    private final LinkedHashMap<FeedKey, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    // 무효화가 일어날 때마다 증가, 로드 도중 무효화된 결과는 저장하지 않음
+    private long generation = 0;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public PostFeedCache(@Value("${post.feed-cache.max-size:1000}") int maxSize,
+                         @Value("${post.feed-cache.ttl-seconds:30}") long ttlSeconds) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    /**
+     * 캐시에 있으면 반환하고, 없으면 loader로 만든 페이지를 저장 후 반환합니다.
+     *
+     * @param contentOf 페이지에서 PostDTO 목록을 꺼내는 함수 (포함된 게시글/채팅방 ID 추적용)
+     */
+    public <T> T get(FeedKey key, Supplier<T> loader, Function<T, List<PostDTO>> contentOf) {
+        long loadGeneration;
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                if (entry.expiresAt > System.currentTimeMillis()) {
+                    hits.incrementAndGet();
+                    @SuppressWarnings("unchecked")
+                    T value = (T) entry.value;
+                    return value;
+                }
+                entries.remove(key);
+                evictions.incrementAndGet();
+            }
+            misses.incrementAndGet();
+            loadGeneration = generation;
+        }
+
+        T value = loader.get();
+        Set<Integer> postIds = new HashSet<>();
+        Set<Integer> chatIds = new HashSet<>();
+        for (PostDTO dto : contentOf.apply(value)) {
+            postIds.add(dto.getPostId());
+            chatIds.add(dto.getChatId());
+        }
+
+        synchronized (this) {
+            if (loadGeneration == generation) {
+                entries.put(key, new Entry(value, postIds, chatIds, System.currentTimeMillis() + ttlMillis));
+                while (entries.size() > maxSize) {
+                    Iterator<FeedKey> eldest = entries.keySet().iterator();
+                    eldest.next();
+                    eldest.remove();
+                    evictions.incrementAndGet();
+                }
+            }
+        }
+        return value;
+    }
+
+    // 게시글 생성/삭제: 해당 게시글이 조건에 맞는 모든 피드 페이지 무효화 (이후 페이지 순서가 밀리므로)
+    public void invalidateMatching(PostSnapshot post) {
+        invalidateIf(key -> key.matches(post));
+    }
+
+    // 게시글 수정: 수정 전/후 조건에 맞는 피드 무효화
+    public void invalidateMatching(PostSnapshot before, PostSnapshot after) {
+        invalidateIf(key -> key.matches(before) || key.matches(after));
+    }
+
+    // 멤버 수, 신청 목록 등 카드 내용만 바뀐 경우: 해당 게시글이 포함된 페이지만 무효화
+    public synchronized void invalidatePost(Integer postId) {
+        generation++;
+        int before = entries.size();
+        entries.values().removeIf(entry -> entry.postIds.contains(postId));
+        invalidations.addAndGet(before - entries.size());
+    }
+
+    public synchronized void invalidateChat(Integer chatId) {
+        generation++;
+        int before = entries.size();
+        entries.values().removeIf(entry -> entry.chatIds.contains(chatId));
+        invalidations.addAndGet(before - entries.size());
+    }
+
+    private synchronized void invalidateIf(java.util.function.Predicate<FeedKey> predicate) {
+        generation++;
+        int before = entries.size();
+        entries.keySet().removeIf(predicate);
+        invalidations.addAndGet(before - entries.size());
+    }
+
+    public synchronized Map<String, Object> stats() {
+        long hitCount = hits.get();
+        long missCount = misses.get();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("size", entries.size());
+        stats.put("maxSize", maxSize);
+        stats.put("ttlSeconds", ttlMillis / 1000);
+        stats.put("hits", hitCount);
+        stats.put("misses", missCount);
+        stats.put("hitRate", hitCount + missCount == 0 ? 0.0 : (double) hitCount / (hitCount + missCount));
+        stats.put("evictions", evictions.get());
+        stats.put("invalidations", invalidations.get());
+        return stats;
+    }
+
+    private static class Entry {
+        private final Object value;
+        private final Set<Integer> postIds;
+        private final Set<Integer> chatIds;
+        private final long expiresAt;
+
+        Entry(Object value, Set<Integer> postIds, Set<Integer> chatIds, long expiresAt) {
+            this.value = value;
+            this.postIds = postIds;
+            this.chatIds = chatIds;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    /**
+     * 피드 캐시 키. 필터 조건(대학교, 지역, 검색어)과 페이지 위치로 구성됩니다.
+     * page는 "p{번호}:{정렬}" 또는 "c{커서}" 형식의 페이지 식별자입니다.
+     */
+    @Getter
+    @EqualsAndHashCode
+    public static class FeedKey {
+        private final Integer universityId;
+        private final List<Integer> regionIds;
+        private final String keyword;
+        private final String page;
+        private final int size;
+
+        public FeedKey(Integer universityId, List<Integer> regionIds, String keyword, String page, int size) {
+            this.universityId = universityId;
+            this.regionIds = regionIds == null ? List.of() : regionIds.stream().distinct().sorted().toList();
+            String normalized = PostSearchService.normalize(keyword);
+            this.keyword = normalized.isEmpty() ? null : normalized;
+            this.page = page;
+            this.size = size;
+        }
+
+        boolean matches(PostSnapshot post) {
+            if (post == null) return false;
+            if (universityId != null && !universityId.equals(post.universityId)) return false;
+            if (!regionIds.isEmpty() && regionIds.stream().noneMatch(post.regionIds::contains)) return false;
+            return keyword == null || post.title.contains(keyword) || post.body.contains(keyword);
+        }
+    }
+
+    /**
+     * 무효화 판단용 게시글 필터 속성 스냅샷 (수정 전 값을 보존하기 위해 엔티티 대신 사용)
+     */
+    public static class PostSnapshot {
+        private final Integer universityId;
+        private final Set<Integer> regionIds;
+        private final String title;
+        private final String body;
+
+        private PostSnapshot(Integer universityId, Set<Integer> regionIds, String title, String body) {
+            this.universityId = universityId;
+            this.regionIds = regionIds;
+            this.title = title;
+            this.body = body;
+        }
+
+        public static PostSnapshot of(Post post) {
+            Integer universityId = post.getUser() != null && post.getUser().getUniversity() != null
+                    ? post.getUser().getUniversity().getId() : null;
+            Set<Integer> regionIds = new HashSet<>();
+            for (Region region : post.getRegions()) {
+                regionIds.add(region.getRegionId());
+            }
+            return new PostSnapshot(universityId, regionIds,
+                    PostSearchService.normalize(post.getTitle()), PostSearchService.normalize(post.getBody()));
+        }
+    }
+}
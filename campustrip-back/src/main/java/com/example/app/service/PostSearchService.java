@@ -0,0 +1,197 @@
+package com.example.app.service;
+
+import com.example.app.domain.Post;
+import com.example.app.domain.Region;
+import com.example.app.repository.PostRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 제목/본문 키워드 검색용 인메모리 역색인.
+ * 한글은 띄어쓰기가 일정하지 않으므로 NFC 정규화 후 공백을 제거한 문자열에서 1-gram, 2-gram을 색인합니다.
+ * 검색 시 키워드의 2-gram posting 교집합으로 후보를 좁힌 뒤 원문 포함 여부로 검증하므로,
+ * 검색 비용은 전체 게시글 수가 아니라 후보(결과) 수에 비례합니다.
+ */
+@Service
+@Slf4j
+public class PostSearchService {
+    private static final Comparator<IndexedPost> LATEST_FIRST = Comparator
+            .comparing(IndexedPost::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(IndexedPost::getPostId, Comparator.reverseOrder());
+
+    private final PostRepository postRepository;
+
+    // gram -> postId 집합
+    private final Map<String, Set<Integer>> postings = new ConcurrentHashMap<>();
+    // postId -> 색인된 게시글 정보
+    private final Map<Integer, IndexedPost> documents = new ConcurrentHashMap<>();
+    private volatile boolean ready = false;
+
+    public PostSearchService(PostRepository postRepository) {
+        this.postRepository = postRepository;
+    }
+
+    // 애플리케이션 기동 시 전체 게시글로 색인 구성
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        ready = false;
+        postings.clear();
+        documents.clear();
+        List<Post> posts = postRepository.findAllForSearchIndex();
+        posts.forEach(this::index);
+        ready = true;
+        log.info("게시글 검색 색인 구성 완료: {}건, gram {}개", documents.size(), postings.size());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // 게시글 추가/수정 시 색인 갱신
+    public synchronized void index(Post post) {
+        remove(post.getPostId());
+        IndexedPost doc = new IndexedPost(
+                post.getPostId(),
+                normalize(post.getTitle()),
+                normalize(post.getBody()),
+                // DB(DATETIME)와 같은 초 단위로 맞춰야 커서(createdAt, postId) 비교가 DB 조회와 일치
+                post.getCreatedAt() != null ? post.getCreatedAt().truncatedTo(ChronoUnit.SECONDS) : null,
+                post.getUser() != null && post.getUser().getUniversity() != null ? post.getUser().getUniversity().getId() : null,
+                post.getRegions().stream().map(Region::getRegionId).collect(Collectors.toUnmodifiableSet())
+        );
+        documents.put(doc.getPostId(), doc);
+        for (String gram : grams(doc.getTitle() + "\n" + doc.getBody())) {
+            postings.computeIfAbsent(gram, k -> ConcurrentHashMap.newKeySet()).add(doc.getPostId());
+        }
+    }
+
+    // 게시글 삭제 시 색인 제거
+    public synchronized void remove(Integer postId) {
+        IndexedPost doc = documents.remove(postId);
+        if (doc == null) {
+            return;
+        }
+        for (String gram : grams(doc.getTitle() + "\n" + doc.getBody())) {
+            Set<Integer> ids = postings.get(gram);
+            if (ids != null) {
+                ids.remove(postId);
+                if (ids.isEmpty()) {
+                    postings.remove(gram, ids);
+                }
+            }
+        }
+    }
+
+    /**
+     * 키워드가 포함된 게시글 ID를 관련도 순으로 반환합니다.
+     * 제목에 포함된 게시글이 먼저 오고, 같은 그룹 안에서는 최신순입니다.
+     *
+     * @param universityId null이면 대학교 필터 미적용
+     * @param regionIds    null 또는 비어 있으면 지역 필터 미적용
+     */
+    public List<Integer> search(String keyword, Integer universityId, List<Integer> regionIds) {
+        String query = normalize(keyword);
+        return match(query, universityId, regionIds).stream()
+                .sorted(Comparator.comparing((IndexedPost doc) -> !doc.getTitle().contains(query)).thenComparing(LATEST_FIRST))
+                .map(IndexedPost::getPostId)
+                .toList();
+    }
+
+    /**
+     * 키워드가 포함된 게시글 ID를 (createdAt, postId) 역순 keyset 페이징으로 반환합니다.
+     */
+    public List<Integer> searchLatest(String keyword, Integer universityId, List<Integer> regionIds,
+                                      LocalDateTime createdAt, Integer postId, int limit) {
+        return match(normalize(keyword), universityId, regionIds).stream()
+                .filter(doc -> doc.getCreatedAt() != null && (doc.getCreatedAt().isBefore(createdAt)
+                        || (doc.getCreatedAt().isEqual(createdAt) && doc.getPostId() < postId)))
+                .sorted(LATEST_FIRST)
+                .limit(limit)
+                .map(IndexedPost::getPostId)
+                .toList();
+    }
+
+    private List<IndexedPost> match(String query, Integer universityId, List<Integer> regionIds) {
+        if (query.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Set<Integer> candidates = candidates(query);
+        Set<Integer> regionFilter = (regionIds == null || regionIds.isEmpty()) ? null : new HashSet<>(regionIds);
+        List<IndexedPost> result = new ArrayList<>();
+        for (Integer id : candidates) {
+            IndexedPost doc = documents.get(id);
+            if (doc == null) continue;
+            if (universityId != null && !universityId.equals(doc.getUniversityId())) continue;
+            if (regionFilter != null && doc.getRegionIds().stream().noneMatch(regionFilter::contains)) continue;
+            // 2-gram 교집합은 후보일 뿐이므로 연속 부분 문자열인지 최종 확인
+            if (doc.getTitle().contains(query) || doc.getBody().contains(query)) {
+                result.add(doc);
+            }
+        }
+        return result;
+    }
+
+    // 키워드의 gram posting 중 가장 작은 집합부터 교집합
+    private Set<Integer> candidates(String query) {
+        List<Set<Integer>> lists = new ArrayList<>();
+        if (query.length() == 1) {
+            lists.add(postings.getOrDefault(query, Set.of()));
+        } else {
+            for (int i = 0; i + 2 <= query.length(); i++) {
+                lists.add(postings.getOrDefault(query.substring(i, i + 2), Set.of()));
+            }
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+        Set<Integer> result = new HashSet<>(lists.get(0));
+        for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+            result.retainAll(lists.get(i));
+        }
+        return result;
+    }
+
+    private static Set<String> grams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (String part : text.split("\n")) {
+            for (int i = 0; i < part.length(); i++) {
+                grams.add(part.substring(i, i + 1));
+                if (i + 2 <= part.length()) {
+                    grams.add(part.substring(i, i + 2));
+                }
+            }
+        }
+        return grams;
+    }
+
+    // NFC 정규화(자모 분리 입력 대응) + 소문자화 + 공백 제거
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        return normalized.replaceAll("\\s+", "");
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class IndexedPost {
+        private final Integer postId;
+        private final String title;
+        private final String body;
+        private final LocalDateTime createdAt;
+        private final Integer universityId;
+        private final Set<Integer> regionIds;
+    }
+}
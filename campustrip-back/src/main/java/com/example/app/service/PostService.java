@@ -3,8 +3,10 @@ package com.example.app.service;
 import com.example.app.domain.*;
 import com.example.app.dto.*;
 import com.example.app.repository.*;
+import com.example.app.util.AfterCommit;
 import com.fasterxml.jackson.databind.SequenceWriter;
 import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;  // @Service 어노테이션
@@ -13,13 +15,12 @@ import org.springframework.beans.factory.annotation.Autowired;  // 의존성 주
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.stream.Collectors;
 import org.springframework.data.domain.SliceImpl;
 import org.springframework.transaction.annotation.Transactional;
-
-import java.util.LinkedHashMap;
-import java.util.Comparator;
+import org.springframework.web.multipart.MultipartFile;
 
 @Service
 public class PostService {
@@ -32,11 +33,13 @@ public class PostService {
     private final S3Service s3Service;
     private final ApplicationRepository applicationRepository;
     private final EntityManager entityManager;
+    private final PostSearchService postSearchService;
+    private final PostFeedCache postFeedCache;
 
     @Autowired
     public PostService(PostRepository postRepository,
                        UserRepository userRepository, RegionRepository regionRepository, PlannerRepository plannerRepository, PlannerDetailRepository plannerDetailRepository, PostAssetRepository postAssetrepository, S3Service s3Service,
-                       ApplicationRepository applicationRepository, EntityManager entityManager) {
+                       ApplicationRepository applicationRepository, EntityManager entityManager, PostSearchService postSearchService, PostFeedCache postFeedCache) {
         this.postRepository = postRepository;
         this.userRepository = userRepository;
         this.regionRepository = regionRepository;
@@ -46,6 +49,8 @@ public class PostService {
         this.s3Service = s3Service;
         this.applicationRepository = applicationRepository;
         this.entityManager = entityManager;
+        this.postSearchService = postSearchService;
+        this.postFeedCache = postFeedCache;
     }
 
     public List<Post> getAllPosts() {
@@ -70,39 +75,26 @@ public class PostService {
     }
 
     // 추가: 사용자 작성 + state=1 신청 게시글을 중복 없이 합쳐 Slice로 반환
+    // 합집합/정렬/페이징은 DB에서 ID 기준으로 처리하고, 해당 페이지의 Post만 로드
     public Slice<Post> getPostsByMembershipIdSlice(Integer membershipId, Pageable pageable) {
-        User user = userRepository.findById(membershipId)
-                .orElseThrow(() -> new NoSuchElementException("User not found with id: " + membershipId));
-
-        // 작성한 게시글
-        List<Post> authored = postRepository.findAllByUserWithDetails(user);
-        // 신청한 게시글 중 state=1
-        List<Post> appliedAccepted = applicationRepository.findAllByUser(user).stream()
-                .filter(app -> Boolean.TRUE.equals(app.getApplicationStatus()))
-                .map(Application::getPost)
-                .collect(Collectors.toList());
-
-        // 중복 제거: postId 기준으로 유지하면서 최신 정렬
-        LinkedHashMap<Integer, Post> dedupMap = new LinkedHashMap<>();
-        // 합치기
-        for (Post p : authored) {
-            dedupMap.put(p.getPostId(), p);
+        if (!userRepository.existsById(membershipId)) {
+            throw new NoSuchElementException("User not found with id: " + membershipId);
         }
-        for (Post p : appliedAccepted) {
-            dedupMap.putIfAbsent(p.getPostId(), p);
+        // 정렬은 쿼리에 고정 (createdAt DESC, postId DESC)
+        Slice<Integer> ids = postRepository.findIdsByMembership(membershipId,
+                PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
+        return new SliceImpl<>(loadPostsInOrder(ids.getContent()), pageable, ids.hasNext());
+    }
+
+    // 사용자 작성 + state=1 신청 게시글 커서 조회
+    public CursorSlice<Post> getPostsByMembershipIdByCursor(Integer membershipId, String cursor, int size) {
+        if (!userRepository.existsById(membershipId)) {
+            throw new NoSuchElementException("User not found with id: " + membershipId);
         }
-        List<Post> merged = new ArrayList<>(dedupMap.values());
-        // 정렬: createdAt DESC 기본
-        merged.sort(Comparator.comparing(Post::getCreatedAt, java.util.Comparator.nullsLast(java.util.Comparator.naturalOrder())).reversed());
-
-        // 페이징 구성: SliceImpl
-        int page = pageable.getPageNumber();
-        int size = pageable.getPageSize();
-        int fromIndex = Math.min(page * size, merged.size());
-        int toIndex = Math.min(fromIndex + size, merged.size());
-        List<Post> content = merged.subList(fromIndex, toIndex);
-        boolean hasNext = toIndex < merged.size();
-        return new SliceImpl<>(content, pageable, hasNext);
+        PostCursor postCursor = PostCursor.decode(cursor);
+        List<Integer> ids = postRepository.findIdsByMembershipAndCursor(membershipId,
+                postCursor.getCreatedAt(), postCursor.getPostId(), PageRequest.of(0, size + 1));
+        return loadCursorSlice(ids, size);
     }
 
     public List<Post> getPostsByRegionIds(List<Integer> regionIds) {
@@ -134,13 +126,18 @@ public class PostService {
                 planner = plannerRepository.save(newPlanner);
                 // 여기에 플래너 항목들도 복제하는 로직이 필요할 수 있음
                 List<PlannerDetail> originalDetails = plannerDetailRepository.findByPlannerPlannerIdOrderByIdPlannerOrder(createPost.getPlannerId());
+                List<PlannerDetail> newDetails = new ArrayList<>();
                 for (PlannerDetail detail : originalDetails) {
                     PlannerDetail newDetail = new PlannerDetail();
                     newDetail.setId(new PlannerDetailId(detail.getId().getPlannerOrder(), newPlanner.getPlannerId(), detail.getId().getDay()));
                     newDetail.setPlanner(newPlanner);
                     newDetail.setGooglePlaceId(detail.getGooglePlaceId());
-                    plannerDetailRepository.save(newDetail);
+                    newDetail.setPlaceName(detail.getPlaceName());
+                    newDetail.setLatitude(detail.getLatitude());
+                    newDetail.setLongitude(detail.getLongitude());
+                    newDetails.add(newDetail);
                 }
+                plannerDetailRepository.insertAll(newDetails);
             }
             newPost.setPlanner(planner);
         } catch(Exception e){
@@ -154,31 +151,33 @@ public class PostService {
             newPost.setPlanner(savedPlanner);
         }
         Post savedPost = postRepository.save(newPost);
+        postSearchService.index(savedPost);
 
         // 이미지 없을 때 처리
         if (createPost.getImages() == null || createPost.getImages().isEmpty()) {
+            postFeedCache.invalidateMatching(PostFeedCache.PostSnapshot.of(savedPost));
             return savedPost;
         }
         // 이미지 업로드 처리
-        try{
-            for(var image : createPost.getImages()){
-                String imageUrl = s3Service.uploadFile(image);
-                postAssetRepository.save(new PostAsset(savedPost, imageUrl));
-            }
-        } catch(Exception e){
-            throw new Exception("Image upload failed: " + e.getMessage());
-        }
+        saveAssets(savedPost, createPost.getImages(), s3Service);
+        postFeedCache.invalidateMatching(PostFeedCache.PostSnapshot.of(savedPost));
         return savedPost;
     }
 
     public Post updatePost(CreatePost updateData, S3Service s3Service) throws Exception {
         Post existingPost = postRepository.findById(updateData.getPostId())
                 .orElseThrow(() -> new NoSuchElementException("Post not found with id: " + updateData.getPostId()));
-        // 기존 이미지 삭제 처리 추가
-        List<PostAsset> existingAssets = (List<PostAsset>) postAssetRepository.findAllByPost(existingPost);
-        for (var asset : existingAssets) {
-            s3Service.deleteFile(asset.getStorageUrl()); // S3에서 파일 삭제
-            postAssetRepository.delete(asset); // DB에서 레코드 삭제
+        PostFeedCache.PostSnapshot before = PostFeedCache.PostSnapshot.of(existingPost);
+        // 유지 목록에 없는 기존 이미지만 삭제 (DB는 한 번에, S3는 비동기)
+        List<PostAsset> removedAssets = new ArrayList<>();
+        for (PostAsset asset : postAssetRepository.findAllByPost(existingPost)) {
+            if (updateData.getKeepImageUrls() == null || !updateData.getKeepImageUrls().contains(asset.getStorageUrl())) {
+                removedAssets.add(asset);
+            }
+        }
+        if (!removedAssets.isEmpty()) {
+            postAssetRepository.deleteAllInBatch(removedAssets);
+            s3Service.deleteFiles(removedAssets.stream().map(PostAsset::getStorageUrl).toList());
         }
         existingPost.setTitle(updateData.getTitle());
         existingPost.setBody(updateData.getBody());
@@ -191,31 +190,39 @@ public class PostService {
         existingPost.setRegions(new HashSet<>(regionRepository.findByRegionIdIn(regions)));
 
         Post savedPost = postRepository.save(existingPost);
+        postSearchService.index(savedPost);
 
-        // 이미지 업로드 처리
-        // 다시 확인해보자
+        // 새로 추가된 이미지만 업로드
         if (updateData.getImages() != null && !updateData.getImages().isEmpty()) {
-            try {
-                for (var image : updateData.getImages()) {
-                    String imageUrl = s3Service.uploadFile(image);
-                    PostAsset asset = new PostAsset();
-                    asset.setPost(savedPost);
-                    asset.setStorageUrl(imageUrl);
-                    asset.setFileSize(Math.toIntExact(image.getSize()));
-                    postAssetRepository.save(asset);
-                }
-            } catch (Exception e) {
-                throw new Exception("Image upload failed: " + e.getMessage());
-            }
+            saveAssets(savedPost, updateData.getImages(), s3Service);
         }
 
+        postFeedCache.invalidateMatching(before, PostFeedCache.PostSnapshot.of(savedPost));
         return savedPost;
     }
 
+    // 이미지를 동시에 업로드한 뒤 PostAsset을 한 번에 저장, DB 저장 실패 시 올라간 파일 정리
+    private void saveAssets(Post post, List<MultipartFile> images, S3Service s3Service) throws Exception {
+        List<S3Service.UploadedFile> uploaded = s3Service.uploadFiles(images);
+        List<PostAsset> assets = new ArrayList<>();
+        for (S3Service.UploadedFile file : uploaded) {
+            PostAsset asset = new PostAsset(post, file.getUrl());
+            asset.setFileSize(Math.toIntExact(file.getSize()));
+            assets.add(asset);
+        }
+        try {
+            postAssetRepository.saveAll(assets);
+        } catch (Exception e) {
+            s3Service.deleteFiles(uploaded.stream().map(S3Service.UploadedFile::getUrl).toList());
+            throw new Exception("Image upload failed: " + e.getMessage());
+        }
+    }
+
     public void deletePost(Integer postId) {
         // 관련된 PostAsset도 함께 삭제
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new NoSuchElementException("Post not found with id: " + postId));
+        PostFeedCache.PostSnapshot snapshot = PostFeedCache.PostSnapshot.of(post);
         List<PostAsset> assets = (List<PostAsset>) postAssetRepository.findAllByPost(post);
         for (var asset : assets) {
             s3Service.deleteFile(asset.getStorageUrl()); // S3에서 파일 삭제
@@ -223,9 +230,52 @@ public class PostService {
         }
         // 관련된 PostRegion, Application 등도 cascade 옵션에 의해 함께 삭제될 것임
         postRepository.deleteById(postId);
+        postSearchService.remove(postId);
+        postFeedCache.invalidateMatching(snapshot);
     }
 
     public PostDTO convertPostToDTO(Post post, ChatService chatService, RegionService regionService) {
+        return convertPostsToDTOs(List.of(post), chatService, regionService).get(0);
+    }
+
+    // Slice 단위 DTO 변환 (페이지 전체를 한 번에 변환하여 게시글 수와 무관하게 고정된 쿼리 수로 처리)
+    public Slice<PostDTO> convertPostsToDTO(Slice<Post> posts, ChatService chatService, RegionService regionService) {
+        return new SliceImpl<>(convertPostsToDTOs(posts.getContent(), chatService, regionService), posts.getPageable(), posts.hasNext());
+    }
+
+    public CursorSlice<PostDTO> convertPostsToDTO(CursorSlice<Post> posts, ChatService chatService, RegionService regionService) {
+        return new CursorSlice<>(convertPostsToDTOs(posts.getContent(), chatService, regionService), posts.getNextCursor(), posts.isHasNext());
+    }
+
+    /**
+     * 게시글 목록을 DTO로 일괄 변환합니다.
+     * 채팅 멤버 수, 첨부파일 URL을 각각 한 번의 묶음 쿼리로 조회한 뒤 Map으로 매칭하며,
+     * 상위 지역 이름은 RegionService의 메모리 테이블에서 조회합니다.
+     * 채팅 멤버 수는 Chat.memberCount를 읽으므로 ChatMember 컬렉션을 로드하지 않습니다.
+     */
+    public List<PostDTO> convertPostsToDTOs(List<Post> posts, ChatService chatService, RegionService regionService) {
+        if (posts.isEmpty()) {
+            return new ArrayList<>();
+        }
+        // 1. 채팅 멤버 수 (chatId 기준 PK 조회)
+        List<Integer> chatIds = posts.stream().map(post -> post.getChat().getId()).distinct().toList();
+        Map<Integer, Integer> memberCounts = chatService.getNumberOfChatMembersByChatIds(chatIds);
+
+        // 2. 첨부파일 URL (postId 기준 IN)
+        List<Integer> postIds = posts.stream().map(Post::getPostId).toList();
+        Map<Integer, List<String>> assetUrls = postAssetRepository.findAllByPostIdIn(postIds).stream()
+                .collect(Collectors.groupingBy(asset -> asset.getPost().getPostId(),
+                        Collectors.mapping(PostAsset::getStorageUrl, Collectors.toList())));
+
+        return posts.stream()
+                .map(post -> buildPostDTO(post,
+                        memberCounts.getOrDefault(post.getChat().getId(), 0),
+                        regionService,
+                        assetUrls.getOrDefault(post.getPostId(), new ArrayList<>())))
+                .collect(Collectors.toList());
+    }
+
+    private PostDTO buildPostDTO(Post post, Integer memberSize, RegionService regionService, List<String> assetUrls) {
         PostDTO postDTO = new PostDTO();
         postDTO.setPostId(post.getPostId());
         postDTO.setUser(new UserResponse(post.getUser()));
@@ -237,29 +287,17 @@ public class PostService {
         postDTO.setStartAt(post.getStartAt());
         postDTO.setEndAt(post.getEndAt());
         postDTO.setTeamSize(post.getTeamSize());
-        postDTO.setMemberSize(chatService.getNumberOfChatMembers(post.getChat()));
+        postDTO.setMemberSize(memberSize);
         postDTO.setChatId(post.getChat().getId());
         postDTO.setPlannerId(post.getPlanner().getPlannerId());
 
-        // 지역 이름 조합 로직
+        // 지역 이름 조합 로직 (상위 지역 이름은 RegionService 메모리 테이블에 미리 계산되어 있음)
         List<RegionDTO> fullRegionNamesDTOs = post.getRegions().stream()
                 // Region ID 기준으로 오름차순 정렬
                 .sorted((r1, r2) -> r1.getRegionId().compareTo(r2.getRegionId()))
                 .map(region -> {
-                    Integer id = region.getRegionId();
-                    String name = region.getRegionName();
-
-                    if (id % 100 != 0 && id > 100) {
-                        Integer parentId = (id / 100) * 100;
-
-                        Region parentRegion = regionService.getRegionById(parentId);
-
-                        if (parentRegion != null) {
-                            String fullName = parentRegion.getRegionName() + " " + name;
-                            return new RegionDTO(fullName, id);
-                        }
-                    }
-                    return new RegionDTO(name, id);
+                    String fullName = regionService.getFullRegionName(region.getRegionId());
+                    return new RegionDTO(fullName != null ? fullName : region.getRegionName(), region.getRegionId());
                 }).collect(Collectors.toList());
 
         postDTO.setRegions(fullRegionNamesDTOs);
@@ -274,10 +312,6 @@ public class PostService {
             postDTO.setApplications(new ArrayList<>()); // 빈 리스트 보장
         }
 
-        // PostAsset 리스트 변환
-        List<String> assetUrls = postAssetRepository.findAllByPost(post).stream()
-                .map(PostAsset::getStorageUrl)
-                .collect(Collectors.toList());
         postDTO.setPostAssets(assetUrls);
         return postDTO;
     }
@@ -294,6 +328,9 @@ public class PostService {
      */
     public Slice<Post> getAllPostsSlice(String keyword, Pageable pageable) {
         if (keyword != null && !keyword.trim().isEmpty()) {
+            if (postSearchService.isReady()) {
+                return loadSearchSlice(postSearchService.search(keyword, null, null), pageable);
+            }
             return postRepository.findAllByKeyword(keyword, pageable);
         }
         return postRepository.findAllBy(pageable);
@@ -305,6 +342,9 @@ public class PostService {
      */
     public Slice<Post> getPostsByRegionIdsSlice(List<Integer> regionIds, String keyword, Pageable pageable) {
         if (keyword != null && !keyword.trim().isEmpty()) {
+            if (postSearchService.isReady()) {
+                return loadSearchSlice(postSearchService.search(keyword, null, regionIds), pageable);
+            }
             return postRepository.findPostsByRegionIdsAndKeyword(regionIds, keyword, pageable);
         }
         return postRepository.findPostsByRegionIdsSlice(regionIds, pageable);
@@ -316,6 +356,9 @@ public class PostService {
      */
     public Slice<Post> getPostsByUniversityIdSlice(Integer universityId, String keyword, Pageable pageable) {
         if (keyword != null && !keyword.trim().isEmpty()) {
+            if (postSearchService.isReady()) {
+                return loadSearchSlice(postSearchService.search(keyword, universityId, null), pageable);
+            }
             return postRepository.findAllByUniversityIdAndKeyword(universityId, keyword, pageable);
         }
         return postRepository.findAllByUniversityId(universityId, pageable);
@@ -329,6 +372,10 @@ public class PostService {
         boolean hasRegions = regionIds != null && !regionIds.isEmpty();
         boolean hasKeyword = keyword != null && !keyword.trim().isEmpty();
 
+        if (hasKeyword && postSearchService.isReady()) {
+            // 검색 색인에서 대학교/지역 필터까지 교집합 처리
+            return loadSearchSlice(postSearchService.search(keyword, universityId, hasRegions ? regionIds : null), pageable);
+        }
         if (hasRegions && hasKeyword) {
             // 대학교 + 지역 + 검색어
             return postRepository.findAllByUniversityIdAndRegionIdsAndKeyword(universityId, regionIds, keyword, pageable);
@@ -344,6 +391,93 @@ public class PostService {
         }
     }
 
+    /**
+     * 전체 게시글 커서 조회
+     * cursor가 비어 있으면 첫 페이지, keyword가 비어 있으면 검색 조건 없이 조회
+     */
+    public CursorSlice<Post> getAllPostsByCursor(String keyword, String cursor, int size) {
+        PostCursor postCursor = PostCursor.decode(cursor);
+        if (normalizeKeyword(keyword) != null && postSearchService.isReady()) {
+            return loadCursorSlice(postSearchService.searchLatest(keyword, null, null,
+                    postCursor.getCreatedAt(), postCursor.getPostId(), size + 1), size);
+        }
+        List<Integer> ids = postRepository.findIdsByCursor(postCursor.getCreatedAt(), postCursor.getPostId(),
+                normalizeKeyword(keyword), PageRequest.of(0, size + 1));
+        return loadCursorSlice(ids, size);
+    }
+
+    /**
+     * 지역 필터링 게시글 커서 조회
+     */
+    public CursorSlice<Post> getPostsByRegionIdsByCursor(List<Integer> regionIds, String keyword, String cursor, int size) {
+        PostCursor postCursor = PostCursor.decode(cursor);
+        if (normalizeKeyword(keyword) != null && postSearchService.isReady()) {
+            return loadCursorSlice(postSearchService.searchLatest(keyword, null, regionIds,
+                    postCursor.getCreatedAt(), postCursor.getPostId(), size + 1), size);
+        }
+        List<Integer> ids = postRepository.findIdsByRegionIdsAndCursor(regionIds, postCursor.getCreatedAt(), postCursor.getPostId(),
+                normalizeKeyword(keyword), PageRequest.of(0, size + 1));
+        return loadCursorSlice(ids, size);
+    }
+
+    /**
+     * 대학교 (+ 지역) 필터링 게시글 커서 조회
+     */
+    public CursorSlice<Post> getPostsByUniversityIdByCursor(Integer universityId, List<Integer> regionIds, String keyword, String cursor, int size) {
+        PostCursor postCursor = PostCursor.decode(cursor);
+        if (normalizeKeyword(keyword) != null && postSearchService.isReady()) {
+            return loadCursorSlice(postSearchService.searchLatest(keyword, universityId, regionIds,
+                    postCursor.getCreatedAt(), postCursor.getPostId(), size + 1), size);
+        }
+        List<Integer> ids;
+        if (regionIds != null && !regionIds.isEmpty()) {
+            ids = postRepository.findIdsByUniversityIdAndRegionIdsAndCursor(universityId, regionIds,
+                    postCursor.getCreatedAt(), postCursor.getPostId(), normalizeKeyword(keyword), PageRequest.of(0, size + 1));
+        } else {
+            ids = postRepository.findIdsByUniversityIdAndCursor(universityId,
+                    postCursor.getCreatedAt(), postCursor.getPostId(), normalizeKeyword(keyword), PageRequest.of(0, size + 1));
+        }
+        return loadCursorSlice(ids, size);
+    }
+
+    // size + 1개를 조회한 ID 목록으로 다음 페이지 여부를 판단하고, 해당 페이지의 Post만 연관 엔티티와 함께 로드
+    private CursorSlice<Post> loadCursorSlice(List<Integer> ids, int size) {
+        boolean hasNext = ids.size() > size;
+        List<Integer> pageIds = hasNext ? ids.subList(0, size) : ids;
+        List<Post> content = loadPostsInOrder(pageIds);
+        if (content.isEmpty()) {
+            return new CursorSlice<>(content, null, false);
+        }
+        Post last = content.get(content.size() - 1);
+        String nextCursor = hasNext ? new PostCursor(last.getCreatedAt(), last.getPostId()).encode() : null;
+        return new CursorSlice<>(content, nextCursor, hasNext);
+    }
+
+    // 검색 색인이 반환한 순위 목록에서 요청 페이지 구간만 잘라 로드
+    private Slice<Post> loadSearchSlice(List<Integer> rankedIds, Pageable pageable) {
+        int fromIndex = (int) Math.min(pageable.getOffset(), rankedIds.size());
+        int toIndex = Math.min(fromIndex + pageable.getPageSize(), rankedIds.size());
+        List<Post> content = loadPostsInOrder(rankedIds.subList(fromIndex, toIndex));
+        return new SliceImpl<>(content, pageable, toIndex < rankedIds.size());
+    }
+
+    // ID 순서를 유지하면서 연관 엔티티와 함께 Post 로드
+    private List<Post> loadPostsInOrder(List<Integer> postIds) {
+        if (postIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Integer, Post> postMap = postRepository.findAllWithDetailsByPostIdIn(postIds).stream()
+                .collect(Collectors.toMap(Post::getPostId, p -> p));
+        return postIds.stream()
+                .map(postMap::get)
+                .filter(java.util.Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    private String normalizeKeyword(String keyword) {
+        return (keyword == null || keyword.trim().isEmpty()) ? null : keyword;
+    }
+
     public List<PostMember> getPostMembersByPostId(Integer postId, String userId) {
         List<Object[]> results = applicationRepository.findAllByPostIdWithUserRates(postId, userId);
         // Object[0] = Application, Object[1] = UserRate (nullable)
@@ -370,6 +504,7 @@ public class PostService {
         User newOwner = userRepository.findById(newOwnerId)
                 .orElseThrow(() -> new NoSuchElementException("User not found with id: " + newOwnerId));
         User currentOwner = post.getUser();
+        PostFeedCache.PostSnapshot before = PostFeedCache.PostSnapshot.of(post);
 
         // 1. 새로운 소유자의 기존 신청 조회 및 삭제
         Post finalPost = post;
@@ -393,10 +528,15 @@ public class PostService {
         // 4. 소유자 변경
         post.setUser(newOwner);
         postRepository.save(post);
+        // 작성자 대학교가 바뀌므로 검색 색인 갱신
+        postSearchService.index(post);
 
         // 5. 기존 소유자를 신청자로 추가
         Application newApplication = new Application(currentOwner, post, true);
         applicationRepository.save(newApplication);
+        // 스냅샷은 트랜잭션 안에서 만들고, 무효화는 커밋 후 (커밋 전 재조회가 이전 소유자로 다시 캐시하지 않도록)
+        PostFeedCache.PostSnapshot after = PostFeedCache.PostSnapshot.of(post);
+        AfterCommit.run(() -> postFeedCache.invalidateMatching(before, after));
     }
 
     @Transactional
@@ -0,0 +1,402 @@
+package com.example.app.service;
+
+import com.example.app.domain.PlannerDetail;
+import com.example.app.dto.LocationMessage;
+import com.example.app.dto.PushNotificationRequest;
+import com.example.app.enumtype.PushNotificationType;
+import com.example.app.repository.ChatMemberRepository;
+import com.example.app.repository.PlannerDetailRepository;
+import com.example.app.util.GeoUtils;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * 동행 그룹 위치 알림 (그룹 이탈, 일정 장소 도착).
+ * 모든 서버가 위치 스트림(observe)으로 그룹 멤버 위치와 위도/경도 합계를 유지하므로,
+ * "나를 뺀 그룹 중심"은 (합계 - 내 위치) / (인원 - 1)로 갱신마다 O(1)에 계산됩니다.
+ * 오늘 일정 장소는 place-radius-meters 크기의 균일 격자에 넣어 두고, 갱신 시 주변 3x3 칸의 장소만 거리 확인합니다.
+ * 판정(evaluate)은 위치를 직접 받은 서버에서만 하여 알림이 서버 수만큼 중복되지 않으며,
+ * 멀어짐/도착 상태가 바뀔 때만 알림을 만들고 알림 전송(FCM)은 ioExecutor에서 처리합니다.
+ */
+@Service
+@Slf4j
+public class ProximityAlertService {
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final double METERS_PER_DEGREE = 111_320;
+    // 멀어짐 해제/장소 이탈 판정 비율 (경계에서 알림이 반복되지 않도록)
+    private static final double HYSTERESIS = 0.8;
+
+    private final PlannerDetailRepository plannerDetailRepository;
+    private final ChatMemberRepository chatMemberRepository;
+    private final FCMService fcmService;
+    private final ExecutorService ioExecutor;
+    private final double maxDistanceMeters;
+    private final double placeRadiusMeters;
+    private final long cooldownMillis;
+    private final long contextTtlMillis;
+    private final long staleMillis;
+
+    private final ConcurrentHashMap<Integer, GroupState> groups = new ConcurrentHashMap<>();
+
+    private final AtomicLong evaluated = new AtomicLong();
+    private final AtomicLong distanceAlerts = new AtomicLong();
+    private final AtomicLong arrivalAlerts = new AtomicLong();
+    private final AtomicLong contextLoads = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    public ProximityAlertService(PlannerDetailRepository plannerDetailRepository, ChatMemberRepository chatMemberRepository,
+                                 FCMService fcmService, ExecutorService ioExecutor,
+                                 @Value("${location.proximity.max-distance-meters:500}") double maxDistanceMeters,
+                                 @Value("${location.proximity.place-radius-meters:100}") double placeRadiusMeters,
+                                 @Value("${location.proximity.cooldown-seconds:600}") long cooldownSeconds,
+                                 @Value("${location.proximity.context-ttl-seconds:600}") long contextTtlSeconds,
+                                 @Value("${location.proximity.stale-seconds:300}") long staleSeconds) {
+        this.plannerDetailRepository = plannerDetailRepository;
+        this.chatMemberRepository = chatMemberRepository;
+        this.fcmService = fcmService;
+        this.ioExecutor = ioExecutor;
+        this.maxDistanceMeters = maxDistanceMeters;
+        this.placeRadiusMeters = placeRadiusMeters;
+        this.cooldownMillis = cooldownSeconds * 1000;
+        this.contextTtlMillis = contextTtlSeconds * 1000;
+        this.staleMillis = staleSeconds * 1000;
+    }
+
+    // 위치 스트림(Kafka)으로 받은 멤버 위치 반영 (모든 서버)
+    public void observe(LocationMessage location) {
+        int groupId = parseId(location.getGroupId());
+        int userId = parseId(location.getUserId());
+        if (groupId < 0 || userId < 0) {
+            return;
+        }
+        if ("LEAVE".equals(location.getType())) {
+            withGroup(groupId, group -> group.remove(userId));
+        } else if ("TALK".equals(location.getType())) {
+            withGroup(groupId, group -> group.move(userId, location));
+        }
+    }
+
+    /**
+     * 이 서버가 직접 받은 위치로 그룹 이탈/장소 도착을 판정합니다 (LocationController에서 발행 직전 호출).
+     * 상태가 바뀐 경우에만 알림을 비동기로 보냅니다.
+     */
+    public void evaluate(LocationMessage location) {
+        int groupId = parseId(location.getGroupId());
+        int userId = parseId(location.getUserId());
+        if (groupId < 0 || userId < 0 || !"TALK".equals(location.getType())) {
+            observe(location);
+            return;
+        }
+        long now = System.currentTimeMillis();
+        List<PushNotificationRequest> alerts = new ArrayList<>(2);
+        boolean[] reload = {false};
+        withGroup(groupId, group -> {
+            if (!group.move(userId, location)) {
+                return; // 늦게 도착한 이전 위치
+            }
+            MemberState member = group.members.get(userId);
+            evaluated.incrementAndGet();
+            GroupContext context = group.context;
+            if ((context == null || now - context.loadedAt > contextTtlMillis) && !group.loading) {
+                group.loading = true;
+                reload[0] = true;
+            }
+            if (context == null) {
+                return;
+            }
+            checkDistance(groupId, userId, group, member, context, now, alerts);
+            checkPlaces(groupId, userId, member, context, alerts);
+        });
+        if (reload[0]) {
+            ioExecutor.execute(() -> loadContext(groupId));
+        }
+        if (!alerts.isEmpty()) {
+            ioExecutor.execute(() -> send(alerts));
+        }
+    }
+
+    // 나를 뺀 그룹 중심에서 max-distance를 넘으면 알림 (해제는 80% 안쪽으로 돌아왔을 때)
+    private void checkDistance(int groupId, int userId, GroupState group, MemberState member, GroupContext context,
+                               long now, List<PushNotificationRequest> alerts) {
+        int others = group.members.size() - 1;
+        if (others < 1) {
+            return;
+        }
+        double centerLat = (group.sumLat - member.lat) / others;
+        double centerLng = (group.sumLng - member.lng) / others;
+        double distance = GeoUtils.distanceMeters(member.lat, member.lng, centerLat, centerLng);
+        if (!member.far && distance > maxDistanceMeters) {
+            member.far = true;
+            if (now - member.lastDistanceAlert >= cooldownMillis) {
+                member.lastDistanceAlert = now;
+                distanceAlerts.incrementAndGet();
+                String body = member.name + "님이 그룹에서 약 " + Math.round(distance) + "m 떨어져 있습니다.";
+                Set<Integer> receivers = new LinkedHashSet<>(context.organizerIds);
+                receivers.add(userId);
+                for (Integer receiverId : receivers) {
+                    alerts.add(new PushNotificationRequest(receiverId, userId, PushNotificationType.GROUP_DISTANCE, groupId,
+                            "동행 위치 알림", body));
+                }
+            }
+        } else if (member.far && distance < maxDistanceMeters * HYSTERESIS) {
+            member.far = false;
+        }
+    }
+
+    // 주변 격자 칸의 오늘 일정 장소 중 반경 안에 새로 들어온 장소가 있으면 방장에게 도착 알림
+    private void checkPlaces(int groupId, int userId, MemberState member, GroupContext context, List<PushNotificationRequest> alerts) {
+        if (context.grid.isEmpty()) {
+            return;
+        }
+        long cellX = context.cellX(member.lng);
+        long cellY = context.cellY(member.lat);
+        for (long dx = -1; dx <= 1; dx++) {
+            for (long dy = -1; dy <= 1; dy++) {
+                List<Stop> stops = context.grid.get(cellKey(cellX + dx, cellY + dy));
+                if (stops == null) {
+                    continue;
+                }
+                for (Stop stop : stops) {
+                    double distance = GeoUtils.distanceMeters(member.lat, member.lng, stop.lat, stop.lng);
+                    if (distance <= placeRadiusMeters) {
+                        if (member.insideStops.add(stop.key)) {
+                            arrivalAlerts.incrementAndGet();
+                            for (Integer receiverId : context.organizerIds) {
+                                if (receiverId != userId) {
+                                    alerts.add(new PushNotificationRequest(receiverId, userId, PushNotificationType.PLACE_ARRIVAL, groupId,
+                                            "일정 장소 도착", member.name + "님이 " + stop.name + "에 도착했습니다."));
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        // 반경을 벗어난 장소는 다시 들어올 때 알림 (경계 흔들림 방지를 위해 반경의 1/0.8 밖에서 해제)
+        if (!member.insideStops.isEmpty()) {
+            member.insideStops.removeIf(key -> {
+                Stop stop = context.stops.get(key);
+                return stop == null
+                        || GeoUtils.distanceMeters(member.lat, member.lng, stop.lat, stop.lng) > placeRadiusMeters / HYSTERESIS;
+            });
+        }
+    }
+
+    // 방장 목록과 오늘 일정 장소를 읽어 격자 구성 (ioExecutor)
+    private void loadContext(int groupId) {
+        GroupContext context = null;
+        try {
+            List<Integer> organizerIds = chatMemberRepository.findOwnerIdsByChatId(groupId);
+            LocalDate today = LocalDate.now(KST);
+            List<PlannerDetail> todayStops = new ArrayList<>();
+            for (PlannerDetail detail : plannerDetailRepository.findStopsByChatId(groupId)) {
+                LocalDate startDate = detail.getPlanner().getStartDate();
+                if (startDate != null && detail.getId().getDay() != null
+                        && ChronoUnit.DAYS.between(startDate, today) + 1 == detail.getId().getDay()) {
+                    todayStops.add(detail);
+                }
+            }
+            context = new GroupContext(List.copyOf(organizerIds), todayStops, placeRadiusMeters, System.currentTimeMillis());
+            contextLoads.incrementAndGet();
+        } catch (Exception e) {
+            failed.incrementAndGet();
+            log.error("위치 알림 그룹 정보 조회 실패: groupId={}", groupId, e);
+        }
+        GroupContext loaded = context;
+        GroupState group = groups.get(groupId);
+        if (group != null) {
+            synchronized (group) {
+                group.loading = false;
+                if (loaded != null) {
+                    group.context = loaded;
+                }
+            }
+        }
+    }
+
+    private void send(List<PushNotificationRequest> alerts) {
+        try {
+            fcmService.sendNotificationToUsers(alerts);
+        } catch (Exception e) {
+            failed.incrementAndGet();
+            log.error("위치 알림 전송 실패: {}", e.getMessage());
+        }
+    }
+
+    // 오래 갱신이 없는 멤버와 빈 그룹 정리
+    @Scheduled(fixedDelayString = "${location.proximity.sweep-millis:60000}")
+    public void sweep() {
+        long threshold = System.currentTimeMillis() - staleMillis;
+        for (Map.Entry<Integer, GroupState> entry : groups.entrySet()) {
+            GroupState group = entry.getValue();
+            synchronized (group) {
+                List<Integer> stale = new ArrayList<>();
+                group.members.forEach((userId, member) -> {
+                    if (member.updatedAt < threshold) {
+                        stale.add(userId);
+                    }
+                });
+                stale.forEach(group::remove);
+                if (group.members.isEmpty() && !group.loading) {
+                    group.removed = true;
+                    groups.remove(entry.getKey(), group);
+                }
+            }
+        }
+    }
+
+    public Map<String, Object> stats() {
+        int members = 0;
+        for (GroupState group : groups.values()) {
+            synchronized (group) {
+                members += group.members.size();
+            }
+        }
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("groups", groups.size());
+        stats.put("members", members);
+        stats.put("evaluated", evaluated.get());
+        stats.put("distanceAlerts", distanceAlerts.get());
+        stats.put("arrivalAlerts", arrivalAlerts.get());
+        stats.put("contextLoads", contextLoads.get());
+        stats.put("failed", failed.get());
+        return stats;
+    }
+
+    // sweep에서 제거된 그룹에 쓰지 않도록 제거 표시를 확인하고 다시 조회
+    private void withGroup(int groupId, Consumer<GroupState> action) {
+        while (true) {
+            GroupState group = groups.computeIfAbsent(groupId, k -> new GroupState());
+            synchronized (group) {
+                if (!group.removed) {
+                    action.accept(group);
+                    return;
+                }
+            }
+        }
+    }
+
+    private static int parseId(String id) {
+        if (id == null) {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(id);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static long cellKey(long x, long y) {
+        return (x << 32) ^ (y & 0xffffffffL);
+    }
+
+    // 그룹 멤버 위치와 위도/경도 합계 (그룹 락으로 보호)
+    private static class GroupState {
+        private final Map<Integer, MemberState> members = new HashMap<>();
+        private double sumLat;
+        private double sumLng;
+        private GroupContext context;
+        private boolean loading;
+        private boolean removed;
+
+        // 위치 갱신 시 합계에서 이전 위치를 빼고 새 위치를 더함 (이전 위치가 더 최신이면 false)
+        boolean move(int userId, LocationMessage location) {
+            long timestamp = location.getTimestamp() > 0 ? location.getTimestamp() : System.currentTimeMillis();
+            MemberState member = members.get(userId);
+            if (member == null) {
+                member = new MemberState();
+                members.put(userId, member);
+            } else if (timestamp < member.updatedAt) {
+                return false;
+            } else {
+                sumLat -= member.lat;
+                sumLng -= member.lng;
+            }
+            member.lat = location.getLatitude();
+            member.lng = location.getLongitude();
+            member.updatedAt = timestamp;
+            member.name = location.getUserName();
+            sumLat += member.lat;
+            sumLng += member.lng;
+            return true;
+        }
+
+        void remove(int userId) {
+            MemberState member = members.remove(userId);
+            if (member != null) {
+                sumLat -= member.lat;
+                sumLng -= member.lng;
+            }
+            if (members.isEmpty()) {
+                // 부동소수 오차가 쌓이지 않도록 초기화
+                sumLat = 0;
+                sumLng = 0;
+            }
+        }
+    }
+
+    private static class MemberState {
+        private double lat;
+        private double lng;
+        private long updatedAt;
+        private String name;
+        private boolean far;
+        private long lastDistanceAlert;
+        private final Set<Long> insideStops = new HashSet<>();
+    }
+
+    // 방장 목록과 오늘 일정 장소 격자 (불변, context-ttl-seconds마다 새로 읽음)
+    private static class GroupContext {
+        private final List<Integer> organizerIds;
+        private final Map<Long, Stop> stops = new HashMap<>();
+        private final Map<Long, List<Stop>> grid = new HashMap<>();
+        private final double cellMeters;
+        private final double metersPerLng;
+        private final long loadedAt;
+
+        GroupContext(List<Integer> organizerIds, List<PlannerDetail> details, double cellMeters, long loadedAt) {
+            this.organizerIds = organizerIds;
+            this.cellMeters = cellMeters;
+            this.loadedAt = loadedAt;
+            // 경도 1도의 길이는 그룹 일정이 있는 위도 기준으로 고정 (한 그룹의 이동 범위에서는 오차가 작음)
+            double referenceLat = details.isEmpty() ? 0 : details.get(0).getLatitude();
+            this.metersPerLng = METERS_PER_DEGREE * Math.max(0.01, Math.cos(Math.toRadians(referenceLat)));
+            for (PlannerDetail detail : details) {
+                long key = ((long) detail.getId().getPlannerId() << 32) | (detail.getId().getPlannerOrder() & 0xffffffffL);
+                String name = detail.getPlaceName() != null ? detail.getPlaceName() : "일정 장소";
+                Stop stop = new Stop(key, name, detail.getLatitude(), detail.getLongitude());
+                stops.put(key, stop);
+                grid.computeIfAbsent(cellKey(cellX(stop.lng), cellY(stop.lat)), k -> new ArrayList<>()).add(stop);
+            }
+        }
+
+        long cellX(double lng) {
+            return (long) Math.floor(lng * metersPerLng / cellMeters);
+        }
+
+        long cellY(double lat) {
+            return (long) Math.floor(lat * METERS_PER_DEGREE / cellMeters);
+        }
+    }
+
+    @AllArgsConstructor
+    private static class Stop {
+        private final long key;
+        private final String name;
+        private final double lat;
+        private final double lng;
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.app.service;
+
+import com.example.app.enumtype.PushSendResult;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 푸시 발송 클라이언트. 운영은 FirebasePushClient, 부하 테스트는 StubPushClient(fcm.client=stub)를 사용합니다.
+ */
+public interface PushClient {
+    int MAX_MULTICAST_TOKENS = 500;
+
+    /**
+     * 같은 내용의 알림을 최대 500개 토큰에 한 번에 전송합니다.
+     *
+     * @return tokens와 같은 순서의 토큰별 결과
+     */
+    List<PushSendResult> sendMulticast(List<String> tokens, String title, String body, Map<String, String> data);
+}
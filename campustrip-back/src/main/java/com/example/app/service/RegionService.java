@@ -5,54 +5,147 @@ import com.example.app.domain.Region;
 import com.example.app.dto.RegionDTO;
 import com.example.app.dto.RegionList;
 import com.example.app.repository.RegionRepository;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
+/**
+ * 지역 정보는 거의 변경되지 않으므로 기동 시 한 번 읽어 regionId로 인덱싱된 배열 테이블에 보관합니다.
+ * "시/도 시/군/구" 형태의 전체 이름과 시/도별 그룹 목록을 미리 계산해 두며,
+ * Region 테이블이 변경된 경우 reload()로 테이블을 통째로 교체합니다 (AdminController에서 호출).
+ */
 @Service
+@Slf4j
 public class RegionService {
     private final RegionRepository regionRepository;
+    private volatile RegionTable table;
+    private volatile long loadedAt;
 
     @Autowired
     public RegionService(RegionRepository regionRepository) {
         this.regionRepository = regionRepository;
     }
 
+    @EventListener(ApplicationReadyEvent.class)
+    public void reload() {
+        List<Region> regions = new ArrayList<>(regionRepository.findAll());
+        regions.sort(Comparator.comparing(Region::getRegionId));
+        table = new RegionTable(regions);
+        loadedAt = System.currentTimeMillis();
+        log.info("지역 테이블 로드 완료: {}건", regions.size());
+    }
+
+    private RegionTable table() {
+        RegionTable current = table;
+        if (current == null) {
+            synchronized (this) {
+                if (table == null) {
+                    reload();
+                }
+                current = table;
+            }
+        }
+        return current;
+    }
 
     public List<Region> getAllRegions() {
-        return regionRepository.findAll();
+        return table().regions;
     }
 
     public List<RegionList> getAllRegionsGroupedByProvince() {
-        List<RegionList> regionLists = new ArrayList<>();
-        List<Region> regions = regionRepository.findAll();
-        List<RegionDTO> regionDTOs = null;
-        RegionList regionList = null;
-        for(int i = 0; i < regions.size(); i++) {
-            RegionDTO region = new RegionDTO(regions.get(i));
-            if(region.getId() % 100 == 0) {
-                if(regionDTOs != null) {
-                    regionList.setRegions(regionDTOs);
-                    regionLists.add(regionList);
+        return table().groupedByProvince;
+    }
+
+    // Region ID로 Region 엔티티를 조회
+    public Region getRegionById(Integer regionId) {
+        return table().region(regionId);
+    }
+
+    // 상위 지역 이름을 포함한 전체 이름 (예: "경기도 수원시"), 시/도 또는 없는 ID는 자기 이름 그대로
+    public String getFullRegionName(Integer regionId) {
+        return table().fullName(regionId);
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("regions", table().regions.size());
+        stats.put("provinces", table().groupedByProvince.size());
+        stats.put("loadedAt", loadedAt);
+        return stats;
+    }
+
+    // 한 번 만들어진 뒤에는 변경되지 않는 지역 스냅샷
+    private static final class RegionTable {
+        private final List<Region> regions;
+        private final Region[] byId;
+        private final String[] fullNames;
+        private final List<RegionList> groupedByProvince;
+
+        RegionTable(List<Region> sortedRegions) {
+            int maxId = sortedRegions.isEmpty() ? 0 : sortedRegions.get(sortedRegions.size() - 1).getRegionId();
+            this.regions = List.copyOf(sortedRegions);
+            this.byId = new Region[maxId + 1];
+            this.fullNames = new String[maxId + 1];
+            for (Region region : sortedRegions) {
+                byId[region.getRegionId()] = region;
+            }
+            for (Region region : sortedRegions) {
+                int id = region.getRegionId();
+                fullNames[id] = region.getRegionName();
+                if (id % 100 != 0 && id > 100) {
+                    int parent = (id / 100) * 100;
+                    if (byId[parent] != null) {
+                        fullNames[id] = byId[parent].getRegionName() + " " + region.getRegionName();
+                    }
                 }
-                regionList = new RegionList();
-                regionList.setProvince(region.getName());
-                regionDTOs = new ArrayList<>();
-            } else {
-                regionDTOs.add(region);
             }
+            this.groupedByProvince = groupByProvince(sortedRegions);
         }
-        if(regionDTOs != null) {
-            regionList.setRegions(regionDTOs);
-            regionLists.add(regionList);
+
+        Region region(Integer id) {
+            return inRange(id) ? byId[id] : null;
         }
-        return regionLists;
-    }
 
-    // Region ID로 Region 엔티티를 조회
-    public Region getRegionById(Integer regionId) {
-        return regionRepository.findByRegionId(regionId);
+        String fullName(Integer id) {
+            return inRange(id) ? fullNames[id] : null;
+        }
+
+        private boolean inRange(Integer id) {
+            return id != null && id >= 0 && id < byId.length;
+        }
+
+        // ID가 100의 배수인 지역(시/도) 아래에 이어지는 지역들을 묶음
+        private static List<RegionList> groupByProvince(List<Region> sortedRegions) {
+            List<RegionList> regionLists = new ArrayList<>();
+            List<RegionDTO> regionDTOs = null;
+            RegionList regionList = null;
+            for (Region entity : sortedRegions) {
+                RegionDTO region = new RegionDTO(entity);
+                if (region.getId() % 100 == 0) {
+                    if (regionDTOs != null) {
+                        regionList.setRegions(List.copyOf(regionDTOs));
+                        regionLists.add(regionList);
+                    }
+                    regionList = new RegionList();
+                    regionList.setProvince(region.getName());
+                    regionDTOs = new ArrayList<>();
+                } else if (regionDTOs != null) {
+                    regionDTOs.add(region);
+                }
+            }
+            if (regionDTOs != null) {
+                regionList.setRegions(List.copyOf(regionDTOs));
+                regionLists.add(regionList);
+            }
+            return List.copyOf(regionLists);
+        }
     }
 }
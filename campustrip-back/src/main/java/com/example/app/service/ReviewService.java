@@ -196,40 +196,56 @@ public class ReviewService {
         existingReview.setBody(createReview.getBody());
         existingReview.setUpdatedAt(java.time.LocalDateTime.now());
         Review updatedReview = reviewRepository.save(existingReview);
-//        Iterable<ReviewAsset> reviewAsset = reviewAssetRepository.findAllByReviewId(id);
-        reviewAssetRepository.findAllByReviewId(id).forEach(asset -> {
-            s3Service.deleteFile(asset.getStorageUrl());
-            reviewAssetRepository.delete(asset);
-        });
-        // 새로운 이미지 업로드 및 ReviewAsset 저장
+        // 유지 목록에 없는 기존 이미지만 삭제 (DB는 한 번에, S3는 비동기)
+        List<ReviewAsset> removedAssets = new ArrayList<>();
+        for (ReviewAsset asset : reviewAssetRepository.findAllByReviewId(id)) {
+            if (createReview.getKeepImageUrls() == null || !createReview.getKeepImageUrls().contains(asset.getStorageUrl())) {
+                removedAssets.add(asset);
+            }
+        }
+        if (!removedAssets.isEmpty()) {
+            reviewAssetRepository.deleteAllInBatch(removedAssets);
+            s3Service.deleteFiles(removedAssets.stream().map(ReviewAsset::getStorageUrl).toList());
+        }
+        // 새로 추가된 이미지만 업로드 및 ReviewAsset 저장
         uploadReviewAssets(updatedReview, createReview.getImages());
         return new ReviewDTO(updatedReview);
     }
 
     private boolean uploadReviewAssets(Review review, List<MultipartFile> images) {
-        // 현재 review의 기존 asset 개수를 조회하여 assetId 시작값 결정
-        List<ReviewAsset> existingAssets = new ArrayList<>();
-        reviewAssetRepository.findAllByReviewId(review.getId()).forEach(existingAssets::add);
-        int assetIdCounter = existingAssets.size() + 1;
         // 이미지가 없을 때 처리
         if (images == null || images.isEmpty()) {
             return true;
         }
-        // 이미지 업로드 처리
-        for (var image : images) {
-            try {
-                String imageUrl = s3Service.uploadFile(image);
-                ReviewAsset reviewAsset = new ReviewAsset();
-                reviewAsset.setAssetId(assetIdCounter++); // 복합키이므로 수동 설정
-                reviewAsset.setReviewId(review.getId());   // 복합키이므로 수동 설정
-                reviewAsset.setReview(review);
-                reviewAsset.setStorageUrl(imageUrl);
-                reviewAsset.setFileSize(Math.toIntExact(image.getSize()));
-                reviewAssetRepository.save(reviewAsset);
-            } catch (Exception e) {
-                e.printStackTrace();
-                return false;
-            }
+        // 중간 이미지가 삭제되어 번호가 비어 있을 수 있으므로 기존 asset의 최대 assetId 다음부터 사용
+        int assetIdCounter = 1;
+        for (ReviewAsset asset : reviewAssetRepository.findAllByReviewId(review.getId())) {
+            assetIdCounter = Math.max(assetIdCounter, asset.getAssetId() + 1);
+        }
+        // 이미지 동시 업로드 후 ReviewAsset 일괄 저장
+        List<S3Service.UploadedFile> uploaded;
+        try {
+            uploaded = s3Service.uploadFiles(images);
+        } catch (Exception e) {
+            e.printStackTrace();
+            return false;
+        }
+        List<ReviewAsset> reviewAssets = new ArrayList<>();
+        for (S3Service.UploadedFile file : uploaded) {
+            ReviewAsset reviewAsset = new ReviewAsset();
+            reviewAsset.setAssetId(assetIdCounter++); // 복합키이므로 수동 설정
+            reviewAsset.setReviewId(review.getId());   // 복합키이므로 수동 설정
+            reviewAsset.setReview(review);
+            reviewAsset.setStorageUrl(file.getUrl());
+            reviewAsset.setFileSize(Math.toIntExact(file.getSize()));
+            reviewAssets.add(reviewAsset);
+        }
+        try {
+            reviewAssetRepository.insertAll(reviewAssets);
+        } catch (Exception e) {
+            s3Service.deleteFiles(uploaded.stream().map(S3Service.UploadedFile::getUrl).toList());
+            e.printStackTrace();
+            return false;
         }
         return true;
     }
@@ -3,6 +3,8 @@ package com.example.app.service;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -10,7 +12,13 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 
 @Slf4j
 @Service
@@ -18,10 +26,15 @@ import java.util.UUID;
 public class S3Service {
 
     private final AmazonS3 amazonS3;
+    private final ExecutorService ioExecutor;
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucket;
 
+    // 요청 하나에서 동시에 진행할 최대 업로드 수
+    @Value("${cloud.aws.s3.upload-concurrency:4}")
+    private int uploadConcurrency;
+
     public String uploadFile(MultipartFile file) throws IOException {
         String fileName = generateFileName(file.getOriginalFilename());
 
@@ -34,6 +47,59 @@ public class S3Service {
         return amazonS3.getUrl(bucket, fileName).toString();
     }
 
+    /**
+     * 여러 파일을 동시에 업로드하고 입력 순서대로 결과를 반환합니다.
+     * 하나라도 실패하면 이미 올라간 파일을 삭제한 뒤 IOException을 던집니다.
+     */
+    public List<UploadedFile> uploadFiles(List<MultipartFile> files) throws IOException {
+        if (files == null || files.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Semaphore permits = new Semaphore(uploadConcurrency);
+        List<Future<UploadedFile>> futures = new ArrayList<>();
+        for (MultipartFile file : files) {
+            futures.add(ioExecutor.submit(() -> {
+                permits.acquire();
+                try {
+                    return new UploadedFile(uploadFile(file), file.getSize());
+                } finally {
+                    permits.release();
+                }
+            }));
+        }
+
+        List<UploadedFile> uploaded = new ArrayList<>();
+        Exception failure = null;
+        for (Future<UploadedFile> future : futures) {
+            try {
+                uploaded.add(future.get());
+            } catch (ExecutionException e) {
+                failure = failure == null ? (Exception) e.getCause() : failure;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failure = failure == null ? e : failure;
+            }
+        }
+        if (failure != null) {
+            deleteFiles(uploaded.stream().map(UploadedFile::getUrl).toList());
+            throw new IOException("Image upload failed: " + failure.getMessage(), failure);
+        }
+        return uploaded;
+    }
+
+    // 업로드 후 DB 저장 실패 등으로 되돌릴 때 사용 (실패는 로그만 남김)
+    public void deleteFiles(List<String> fileUrls) {
+        for (String url : fileUrls) {
+            ioExecutor.submit(() -> {
+                try {
+                    deleteFile(url);
+                } catch (Exception e) {
+                    log.error("S3 파일 삭제 실패: {}", url, e);
+                }
+            });
+        }
+    }
+
     private String generateFileName(String originalFileName) {
         return UUID.randomUUID().toString() + "-" + originalFileName;
     }
@@ -42,4 +108,11 @@ public class S3Service {
         String fileName = fileUrl.substring(fileUrl.lastIndexOf("/") + 1);
         amazonS3.deleteObject(bucket, fileName);
     }
-}
\ No newline at end of file
+
+    @Getter
+    @AllArgsConstructor
+    public static class UploadedFile {
+        private final String url;
+        private final long size;
+    }
+}
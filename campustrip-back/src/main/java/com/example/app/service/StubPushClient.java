@@ -0,0 +1,41 @@
+package com.example.app.service;
+
+import com.example.app.enumtype.PushSendResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 부하 테스트용 로컬 푸시 클라이언트 (실제 발송 없이 지연만 흉내내고 모두 성공 처리)
+@Component
+@ConditionalOnProperty(name = "fcm.client", havingValue = "stub")
+@Slf4j
+public class StubPushClient implements PushClient {
+    private final long latencyMillis;
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong tokens = new AtomicLong();
+
+    public StubPushClient(@Value("${fcm.stub.latency-millis:50}") long latencyMillis) {
+        this.latencyMillis = latencyMillis;
+    }
+
+    @Override
+    public List<PushSendResult> sendMulticast(List<String> tokenList, String title, String body, Map<String, String> data) {
+        if (latencyMillis > 0) {
+            try {
+                Thread.sleep(latencyMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        long callCount = calls.incrementAndGet();
+        long tokenCount = tokens.addAndGet(tokenList.size());
+        log.debug("[stub] 푸시 전송 {}건 (누적 호출 {}, 누적 토큰 {})", tokenList.size(), callCount, tokenCount);
+        return Collections.nCopies(tokenList.size(), PushSendResult.SUCCESS);
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.app.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 커밋 이후 실행.
+ * 캐시 무효화를 커밋 전에 하면 다른 요청이 아직 커밋되지 않은 이전 값을 다시 캐시에 올릴 수 있으므로,
+ * 진행 중인 트랜잭션이 있으면 커밋 후로 미루고 없으면 바로 실행합니다 (롤백 시에는 실행하지 않음).
+ */
+public final class AfterCommit {
+    private AfterCommit() {
+    }
+
+    public static void run(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
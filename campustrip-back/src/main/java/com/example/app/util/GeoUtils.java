@@ -0,0 +1,79 @@
+package com.example.app.util;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+
+// 위경도 거리 계산
+public final class GeoUtils {
+    private static final double EARTH_RADIUS_METERS = 6_371_000;
+
+    private GeoUtils() {
+    }
+
+    // 두 좌표 사이 거리 (미터, haversine)
+    public static double distanceMeters(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    /**
+     * Douglas–Peucker 단순화: 허용 오차(미터) 안에서 형태를 유지하는 점의 인덱스를 오름차순으로 반환합니다.
+     * 시작/끝 점은 항상 남기며, 깊은 재귀 대신 구간 스택을 사용합니다.
+     */
+    public static int[] simplify(double[] lat, double[] lng, int count, double toleranceMeters) {
+        if (count <= 2 || toleranceMeters <= 0) {
+            int[] all = new int[count];
+            Arrays.setAll(all, i -> i);
+            return all;
+        }
+        // 짧은 구간이므로 첫 점 기준 평면(equirectangular) 좌표로 계산
+        double metersPerLat = Math.toRadians(EARTH_RADIUS_METERS);
+        double metersPerLng = metersPerLat * Math.cos(Math.toRadians(lat[0]));
+        boolean[] keep = new boolean[count];
+        keep[0] = true;
+        keep[count - 1] = true;
+        Deque<int[]> ranges = new ArrayDeque<>();
+        ranges.push(new int[]{0, count - 1});
+        while (!ranges.isEmpty()) {
+            int[] range = ranges.pop();
+            int first = range[0], last = range[1];
+            double ax = lng[first] * metersPerLng, ay = lat[first] * metersPerLat;
+            double bx = lng[last] * metersPerLng, by = lat[last] * metersPerLat;
+            double maxDistance = -1;
+            int farthest = -1;
+            for (int i = first + 1; i < last; i++) {
+                double d = segmentDistance(lng[i] * metersPerLng, lat[i] * metersPerLat, ax, ay, bx, by);
+                if (d > maxDistance) {
+                    maxDistance = d;
+                    farthest = i;
+                }
+            }
+            if (farthest >= 0 && maxDistance > toleranceMeters) {
+                keep[farthest] = true;
+                ranges.push(new int[]{first, farthest});
+                ranges.push(new int[]{farthest, last});
+            }
+        }
+        int kept = 0;
+        int[] indexes = new int[count];
+        for (int i = 0; i < count; i++) {
+            if (keep[i]) {
+                indexes[kept++] = i;
+            }
+        }
+        return Arrays.copyOf(indexes, kept);
+    }
+
+    // 점 p와 선분 ab 사이 거리
+    private static double segmentDistance(double px, double py, double ax, double ay, double bx, double by) {
+        double dx = bx - ax, dy = by - ay;
+        double lengthSquared = dx * dx + dy * dy;
+        double t = lengthSquared == 0 ? 0 : Math.max(0, Math.min(1, ((px - ax) * dx + (py - ay) * dy) / lengthSquared));
+        double x = ax + t * dx - px, y = ay + t * dy - py;
+        return Math.sqrt(x * x + y * y);
+    }
+}
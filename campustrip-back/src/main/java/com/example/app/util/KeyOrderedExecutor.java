@@ -0,0 +1,102 @@
+package com.example.app.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 키 단위로 순서를 보장하는 병렬 실행기.
+ * 같은 키의 작업은 항상 같은 샤드(단일 워커 스레드 + 큐)에서 제출 순서대로 실행되고,
+ * 서로 다른 키는 샤드 수만큼 병렬로 실행됩니다. 큐가 가득 차면 submit이 대기하여 제출 측을 늦춥니다.
+ */
+@Slf4j
+public class KeyOrderedExecutor implements AutoCloseable {
+    private final String name;
+    private final int queueCapacity;
+    private final List<BlockingQueue<Runnable>> queues = new ArrayList<>();
+    private final List<Thread> workers = new ArrayList<>();
+    private final AtomicLongArray processed;
+    private volatile boolean running = true;
+
+    public KeyOrderedExecutor(String name, int shards, int queueCapacity) {
+        this.name = name;
+        this.queueCapacity = queueCapacity;
+        this.processed = new AtomicLongArray(shards);
+        for (int i = 0; i < shards; i++) {
+            BlockingQueue<Runnable> queue = new ArrayBlockingQueue<>(queueCapacity);
+            int shard = i;
+            Thread worker = new Thread(() -> runShard(shard, queue), name + "-shard-" + i);
+            queues.add(queue);
+            workers.add(worker);
+            worker.start();
+        }
+    }
+
+    public void submit(Object key, Runnable task) {
+        int shard = Math.floorMod(key == null ? 0 : key.hashCode(), queues.size());
+        try {
+            queues.get(shard).put(task);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(name + " 작업 제출 중 인터럽트", e);
+        }
+    }
+
+    private void runShard(int shard, BlockingQueue<Runnable> queue) {
+        while (running || !queue.isEmpty()) {
+            Runnable task;
+            try {
+                task = queue.take();
+            } catch (InterruptedException e) {
+                if (!running) {
+                    continue; // 종료 중: 남은 작업 처리
+                }
+                Thread.currentThread().interrupt();
+                return;
+            }
+            try {
+                task.run();
+            } catch (Throwable t) {
+                log.error("{} shard {} 작업 실패", name, shard, t);
+            }
+            processed.incrementAndGet(shard);
+        }
+    }
+
+    // 샤드별 대기 작업 수 / 처리 건수
+    public Map<String, Object> stats() {
+        List<Integer> depths = new ArrayList<>();
+        List<Long> counts = new ArrayList<>();
+        for (int i = 0; i < queues.size(); i++) {
+            depths.add(queues.get(i).size());
+            counts.add(processed.get(i));
+        }
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("shards", queues.size());
+        stats.put("queueCapacity", queueCapacity);
+        stats.put("queueDepth", depths);
+        stats.put("maxQueueDepth", depths.stream().mapToInt(Integer::intValue).max().orElse(0));
+        stats.put("processed", counts);
+        return stats;
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        workers.forEach(Thread::interrupt);
+        for (Thread worker : workers) {
+            try {
+                worker.join(5000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+}
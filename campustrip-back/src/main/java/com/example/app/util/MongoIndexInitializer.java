@@ -1,6 +1,7 @@
 package com.example.app.util;
 
 import com.example.app.domain.ChatMessage;
+import com.example.app.domain.LocationTrail;
 import jakarta.annotation.PostConstruct;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoOperations;
@@ -17,7 +18,12 @@ public class MongoIndexInitializer {
     }
 
     @PostConstruct
-    public void createChatIndexes() {
+    public void createIndexes() {
+        createChatIndexes();
+        createLocationTrailIndexes();
+    }
+
+    private void createChatIndexes() {
         var indexOps = mongoOperations.indexOps(ChatMessage.class);
 
         // 최신 API: createIndex 사용
@@ -28,10 +34,29 @@ public class MongoIndexInitializer {
                         .on("timestamp", Sort.Direction.DESC)
         );
 
+        // 메시지 커서 페이징용: 같은 timestamp 안에서도 _id로 순서가 정해지도록 보조 키 포함
+        indexOps.createIndex(
+                new Index()
+                        .named("chatId_timestamp_id")
+                        .on("chatId", Sort.Direction.ASC)
+                        .on("timestamp", Sort.Direction.DESC)
+                        .on("_id", Sort.Direction.DESC)
+        );
+
         indexOps.createIndex(
                 new Index()
                         .named("senderId")
                         .on("senderId", Sort.Direction.ASC)
         );
     }
-}
\ No newline at end of file
+
+    private void createLocationTrailIndexes() {
+        // 그룹/날짜별 궤적 조회
+        mongoOperations.indexOps(LocationTrail.class).createIndex(
+                new Index()
+                        .named("groupId_day")
+                        .on("groupId", Sort.Direction.ASC)
+                        .on("day", Sort.Direction.ASC)
+        );
+    }
+}
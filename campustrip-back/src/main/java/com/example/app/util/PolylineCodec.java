@@ -0,0 +1,99 @@
+package com.example.app.util;
+
+import java.util.Arrays;
+
+/**
+ * 위치 궤적 압축 인코딩 (polyline 방식).
+ * 점마다 (시간 초, 위도 1e-5도, 경도 1e-5도)를 직전 점과의 차이로 바꾸고 zigzag + varint로 기록합니다.
+ * 걷는 속도의 1초 간격 점은 세 값이 모두 1바이트에 들어가므로 점 하나가 약 3바이트입니다.
+ * 청크(encode 한 번의 결과)는 첫 점을 0 기준 차이로 기록하여 청크끼리 독립적으로 디코딩됩니다.
+ */
+public final class PolylineCodec {
+    public static final double SCALE = 1e5;
+
+    private PolylineCodec() {
+    }
+
+    public static int toFixed(double degrees) {
+        return (int) Math.round(degrees * SCALE);
+    }
+
+    public static double toDegrees(int fixed) {
+        return fixed / SCALE;
+    }
+
+    // seconds/lat/lng 앞 count개를 하나의 청크로 인코딩
+    public static byte[] encode(int[] seconds, int[] lat, int[] lng, int count) {
+        byte[] out = new byte[count * 6 + 16];
+        int pos = 0;
+        int prevT = 0, prevLat = 0, prevLng = 0;
+        for (int i = 0; i < count; i++) {
+            if (out.length - pos < 15) {
+                out = Arrays.copyOf(out, out.length * 2);
+            }
+            pos = writeVarint(out, pos, zigzag(seconds[i] - prevT));
+            pos = writeVarint(out, pos, zigzag(lat[i] - prevLat));
+            pos = writeVarint(out, pos, zigzag(lng[i] - prevLng));
+            prevT = seconds[i];
+            prevLat = lat[i];
+            prevLng = lng[i];
+        }
+        return Arrays.copyOf(out, pos);
+    }
+
+    // 청크를 [초, 위도, 경도] 3개씩 이어 붙인 배열로 디코딩
+    public static int[] decode(byte[] chunk) {
+        int[] out = new int[Math.max(3, chunk.length)];
+        int size = 0;
+        int pos = 0;
+        int prevT = 0, prevLat = 0, prevLng = 0;
+        int[] cursor = {0};
+        while (pos < chunk.length) {
+            if (size + 3 > out.length) {
+                out = Arrays.copyOf(out, out.length * 2);
+            }
+            cursor[0] = pos;
+            prevT += unzigzag(readVarint(chunk, cursor));
+            prevLat += unzigzag(readVarint(chunk, cursor));
+            prevLng += unzigzag(readVarint(chunk, cursor));
+            pos = cursor[0];
+            out[size++] = prevT;
+            out[size++] = prevLat;
+            out[size++] = prevLng;
+        }
+        return Arrays.copyOf(out, size);
+    }
+
+    private static int zigzag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static int unzigzag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static int writeVarint(byte[] out, int pos, int value) {
+        while ((value & ~0x7F) != 0) {
+            out[pos++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out[pos++] = (byte) value;
+        return pos;
+    }
+
+    private static int readVarint(byte[] in, int[] cursor) {
+        int value = 0;
+        int shift = 0;
+        while (true) {
+            if (cursor[0] >= in.length || shift > 28) {
+                throw new IllegalArgumentException("Invalid trail chunk");
+            }
+            byte b = in[cursor[0]++];
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+            shift += 7;
+        }
+    }
+}
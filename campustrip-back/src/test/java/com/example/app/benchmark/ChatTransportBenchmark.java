@@ -0,0 +1,135 @@
+package com.example.app.benchmark;
+
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * 채팅 Kafka 토픽 구성 처리량 비교 (테스트 실행 대상 아님, 수동 실행용).
+ * per-room: 채팅방마다 토픽 1개 + 패턴 구독 (기존 방식)
+ * keyed   : 고정 파티션 단일 토픽 + roomId 키 (chat.kafka.publish-mode=keyed)
+ *
+ * 실행 예: java ... ChatTransportBenchmark localhost:9092 200 20000 12
+ *          (브로커, 채팅방 수, 메시지 수, keyed 토픽 파티션 수)
+ * 발행 처리량, 구독 후 첫 메시지까지 걸린 시간, 전체 소비 처리량, 채팅방 내 순서 위반 수를 출력합니다.
+ */
+public class ChatTransportBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        String bootstrap = args.length > 0 ? args[0] : "localhost:9092";
+        int rooms = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        int messages = args.length > 2 ? Integer.parseInt(args[2]) : 20_000;
+        int partitions = args.length > 3 ? Integer.parseInt(args[3]) : 12;
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+
+        try (AdminClient admin = AdminClient.create(Map.of(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrap))) {
+            List<String> perRoomTopics = new ArrayList<>();
+            for (int room = 0; room < rooms; room++) {
+                perRoomTopics.add("bench-" + runId + "-chat-room-" + room);
+            }
+            String keyedTopic = "bench-" + runId + "-chat-messages";
+
+            List<NewTopic> newTopics = new ArrayList<>();
+            perRoomTopics.forEach(topic -> newTopics.add(new NewTopic(topic, 1, (short) 1)));
+            newTopics.add(new NewTopic(keyedTopic, partitions, (short) 1));
+            long createStart = System.nanoTime();
+            admin.createTopics(newTopics).all().get(5, TimeUnit.MINUTES);
+            System.out.printf("토픽 생성: %d개, %d ms%n", newTopics.size(), elapsedMillis(createStart));
+
+            try {
+                run("per-room", bootstrap, rooms, messages,
+                        room -> perRoomTopics.get(room), Pattern.compile(Pattern.quote("bench-" + runId + "-chat-room-") + ".*"));
+                run("keyed", bootstrap, rooms, messages,
+                        room -> keyedTopic, Pattern.compile(Pattern.quote(keyedTopic)));
+            } finally {
+                List<String> all = new ArrayList<>(perRoomTopics);
+                all.add(keyedTopic);
+                admin.deleteTopics(all).all().get(5, TimeUnit.MINUTES);
+            }
+        }
+    }
+
+    private interface TopicOf {
+        String topic(int room);
+    }
+
+    private static void run(String name, String bootstrap, int rooms, int messages, TopicOf topicOf, Pattern subscription) {
+        Properties producerProps = new Properties();
+        producerProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrap);
+        producerProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        producerProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        producerProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        producerProps.put(ProducerConfig.ACKS_CONFIG, "all");
+
+        Properties consumerProps = new Properties();
+        consumerProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrap);
+        consumerProps.put(ConsumerConfig.GROUP_ID_CONFIG, "bench-" + name + "-" + UUID.randomUUID());
+        consumerProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        consumerProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        consumerProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        consumerProps.put(ConsumerConfig.METADATA_MAX_AGE_CONFIG, 5000); // 운영 설정과 동일
+        consumerProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 500);
+
+        try (KafkaProducer<String, String> producer = new KafkaProducer<>(producerProps);
+             KafkaConsumer<String, String> consumer = new KafkaConsumer<>(consumerProps)) {
+            long produceStart = System.nanoTime();
+            for (int i = 0; i < messages; i++) {
+                int room = i % rooms;
+                // 값: "채팅방|채팅방 내 순번"
+                producer.send(new ProducerRecord<>(topicOf.topic(room), String.valueOf(room), room + "|" + (i / rooms)));
+            }
+            producer.flush();
+            long produceMillis = elapsedMillis(produceStart);
+
+            long consumeStart = System.nanoTime();
+            consumer.subscribe(subscription);
+            int[] lastSeq = new int[rooms];
+            Arrays.fill(lastSeq, -1);
+            int received = 0;
+            int outOfOrder = 0;
+            long firstRecordMillis = -1;
+            long deadline = System.currentTimeMillis() + 300_000;
+            while (received < messages && System.currentTimeMillis() < deadline) {
+                for (ConsumerRecord<String, String> record : consumer.poll(Duration.ofMillis(500))) {
+                    if (firstRecordMillis < 0) {
+                        firstRecordMillis = elapsedMillis(consumeStart);
+                    }
+                    String[] parts = record.value().split("\\|");
+                    int room = Integer.parseInt(parts[0]);
+                    int seq = Integer.parseInt(parts[1]);
+                    if (seq <= lastSeq[room]) {
+                        outOfOrder++;
+                    }
+                    lastSeq[room] = Math.max(lastSeq[room], seq);
+                    received++;
+                }
+            }
+            long consumeMillis = elapsedMillis(consumeStart);
+
+            System.out.printf("[%s] 발행 %d건 %d ms (%.0f msg/s) | 첫 수신까지 %d ms | 소비 %d건 %d ms (%.0f msg/s) | 순서 위반 %d건%n",
+                    name, messages, produceMillis, perSecond(messages, produceMillis),
+                    firstRecordMillis, received, consumeMillis, perSecond(received, consumeMillis), outOfOrder);
+        }
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    private static double perSecond(int count, long millis) {
+        return millis == 0 ? count : count * 1000.0 / millis;
+    }
+}
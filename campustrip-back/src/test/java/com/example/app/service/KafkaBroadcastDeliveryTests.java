@@ -0,0 +1,118 @@
+package com.example.app.service;
+
+import com.example.app.config.KafkaConfig;
+import com.example.app.config.KafkaDeliveryGroups;
+import com.example.app.dto.ChatMessageDTO;
+import com.example.app.enumtype.MessageType;
+import com.example.app.util.JwtUtil;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.ContainerTestUtils;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.messaging.SessionConnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+// broadcast 전달 모드: 서버 두 대가 같은 토픽의 모든 레코드를 받고, 각자 구독자가 있는 채팅방에만 전달하는지 확인
+@EmbeddedKafka(partitions = 2, topics = KafkaBroadcastDeliveryTests.TOPIC)
+class KafkaBroadcastDeliveryTests {
+    static final String TOPIC = "chat-messages";
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void everyNodeReceivesAllRecordsAndForwardsOnlyToLocalSubscribers(EmbeddedKafkaBroker broker) {
+        try (ConfigurableApplicationContext nodeA = startNode(broker, "node-a");
+             ConfigurableApplicationContext nodeB = startNode(broker, "node-b")) {
+            subscribe(nodeA, "session-a", "/topic/chat/room/1");
+            subscribe(nodeB, "session-b", "/topic/chat/room/2");
+
+            KafkaTemplate<String, ChatMessageDTO> kafkaTemplate = nodeA.getBean("kafkaTemplate", KafkaTemplate.class);
+            kafkaTemplate.send(TOPIC, "1", message(1));
+            kafkaTemplate.send(TOPIC, "2", message(2));
+
+            SimpMessagingTemplate messagingA = nodeA.getBean(SimpMessagingTemplate.class);
+            SimpMessagingTemplate messagingB = nodeB.getBean(SimpMessagingTemplate.class);
+            verify(messagingA, timeout(10_000)).convertAndSend(eq("/topic/chat/room/1"), any(Object.class));
+            verify(messagingB, timeout(10_000)).convertAndSend(eq("/topic/chat/room/2"), any(Object.class));
+            verify(messagingA, after(1_000).never()).convertAndSend(eq("/topic/chat/room/2"), any(Object.class));
+            verify(messagingB, never()).convertAndSend(eq("/topic/chat/room/1"), any(Object.class));
+        }
+    }
+
+    private static ConfigurableApplicationContext startNode(EmbeddedKafkaBroker broker, String instanceId) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(NodeConfig.class)
+                .web(WebApplicationType.NONE)
+                .run("--kafka.bootstrap-servers=" + broker.getBrokersAsString(),
+                        "--spring.kafka.consumer.chat-group-id=chat-group",
+                        "--spring.kafka.consumer.location-group-id=campustrip-group",
+                        "--chat.kafka.delivery-mode=broadcast",
+                        "--chat.kafka.topic=" + TOPIC,
+                        "--chat.kafka.partitions=2",
+                        "--chat.kafka.legacy-consumer.enabled=false",
+                        "--app.instance-id=" + instanceId);
+        // 새 인스턴스 그룹은 latest부터 읽으므로 파티션 할당 후에 발행해야 함
+        for (MessageListenerContainer container : context.getBean(KafkaListenerEndpointRegistry.class).getListenerContainers()) {
+            String[] topics = container.getContainerProperties().getTopics();
+            if (topics != null && Arrays.asList(topics).contains(TOPIC)) {
+                ContainerTestUtils.waitForAssignment(container, 2);
+            }
+        }
+        return context;
+    }
+
+    private static void subscribe(ConfigurableApplicationContext node, String sessionId, String destination) {
+        StompHeaderAccessor connect = StompHeaderAccessor.create(StompCommand.CONNECT);
+        connect.setSessionId(sessionId);
+        node.publishEvent(new SessionConnectEvent(node, MessageBuilder.createMessage(new byte[0], connect.getMessageHeaders())));
+
+        StompHeaderAccessor subscribe = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        subscribe.setSessionId(sessionId);
+        subscribe.setSubscriptionId("sub-0");
+        subscribe.setDestination(destination);
+        node.publishEvent(new SessionSubscribeEvent(node, MessageBuilder.createMessage(new byte[0], subscribe.getMessageHeaders())));
+    }
+
+    private static ChatMessageDTO message(int roomId) {
+        ChatMessageDTO message = new ChatMessageDTO(MessageType.CHAT, roomId, 1, "tester", "hello " + roomId, LocalDateTime.now());
+        message.setMessageId("m-" + roomId);
+        return message;
+    }
+
+    // Kafka 전달 경로에 필요한 빈만 올린 서버 한 대 (WebSocket 브로커, 위치 알림은 mock)
+    @Configuration
+    @ComponentScan(basePackages = "com.example.app", useDefaultFilters = false,
+            includeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = {
+                    KafkaConfig.class, KafkaDeliveryGroups.class, KafkaConsumerService.class,
+                    ChatMessageCache.class, ChatPresenceRegistry.class, LocationEngine.class, JwtUtil.class}))
+    static class NodeConfig {
+        @Bean
+        SimpMessagingTemplate messagingTemplate() {
+            return mock(SimpMessagingTemplate.class);
+        }
+
+        @Bean
+        ProximityAlertService proximityAlertService() {
+            return mock(ProximityAlertService.class);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.app.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 위치 궤적 저장 형식: PolylineCodec 인코딩/디코딩 왕복과 GeoUtils.simplify(Douglas–Peucker) 단순화 확인
+class TrailEncodingTests {
+
+    @Test
+    void encodeDecodeRoundTripKeepsEveryPoint() {
+        int[] seconds = {0, 1, 2, 60, 3_600, 86_399};
+        int[] lat = {PolylineCodec.toFixed(37.55000), PolylineCodec.toFixed(37.55001), PolylineCodec.toFixed(37.54990),
+                PolylineCodec.toFixed(-33.86880), PolylineCodec.toFixed(0), PolylineCodec.toFixed(89.99999)};
+        int[] lng = {PolylineCodec.toFixed(126.97000), PolylineCodec.toFixed(126.97002), PolylineCodec.toFixed(126.96980),
+                PolylineCodec.toFixed(151.20930), PolylineCodec.toFixed(-179.99999), PolylineCodec.toFixed(180)};
+
+        int[] decoded = PolylineCodec.decode(PolylineCodec.encode(seconds, lat, lng, seconds.length));
+
+        assertEquals(seconds.length * 3, decoded.length);
+        for (int i = 0; i < seconds.length; i++) {
+            assertEquals(seconds[i], decoded[i * 3]);
+            assertEquals(lat[i], decoded[i * 3 + 1]);
+            assertEquals(lng[i], decoded[i * 3 + 2]);
+        }
+    }
+
+    @Test
+    void walkingPointsTakeAboutThreeBytesEach() {
+        int count = 600;
+        int[] seconds = new int[count];
+        int[] lat = new int[count];
+        int[] lng = new int[count];
+        for (int i = 0; i < count; i++) {
+            // 1초 간격, 약 1.1m씩 북동쪽으로 이동
+            seconds[i] = 32_400 + i;
+            lat[i] = PolylineCodec.toFixed(37.55) + i;
+            lng[i] = PolylineCodec.toFixed(126.97) + i;
+        }
+
+        byte[] chunk = PolylineCodec.encode(seconds, lat, lng, count);
+
+        // 첫 점만 0 기준 차이라서 몇 바이트 더 씀
+        assertTrue(chunk.length <= count * 3 + 16, "chunk bytes: " + chunk.length);
+        int[] decoded = PolylineCodec.decode(chunk);
+        assertEquals(seconds[count - 1], decoded[decoded.length - 3]);
+        assertEquals(lat[count - 1], decoded[decoded.length - 2]);
+        assertEquals(lng[count - 1], decoded[decoded.length - 1]);
+    }
+
+    @Test
+    void chunksDecodeIndependently() {
+        byte[] first = PolylineCodec.encode(new int[]{10, 11}, new int[]{3_755_000, 3_755_001}, new int[]{12_697_000, 12_697_001}, 2);
+        byte[] second = PolylineCodec.encode(new int[]{500}, new int[]{3_755_100}, new int[]{12_697_100}, 1);
+
+        assertArrayEquals(new int[]{500, 3_755_100, 12_697_100}, PolylineCodec.decode(second));
+        assertArrayEquals(new int[]{10, 3_755_000, 12_697_000, 11, 3_755_001, 12_697_001}, PolylineCodec.decode(first));
+    }
+
+    @Test
+    void decodeRejectsTruncatedChunk() {
+        byte[] chunk = PolylineCodec.encode(new int[]{100_000}, new int[]{3_755_000}, new int[]{12_697_000}, 1);
+
+        assertThrows(IllegalArgumentException.class, () -> PolylineCodec.decode(Arrays.copyOf(chunk, chunk.length - 1)));
+    }
+
+    @Test
+    void simplifyDropsPointsOnAStraightLineAndKeepsCorners() {
+        // 동쪽으로 10점 직선 이동 후 북쪽으로 꺾어 10점 직선 이동 (약 11m 간격)
+        double[] lat = new double[20];
+        double[] lng = new double[20];
+        for (int i = 0; i < 10; i++) {
+            lat[i] = 37.55;
+            lng[i] = 126.97 + i * 0.0001;
+        }
+        for (int i = 10; i < 20; i++) {
+            lat[i] = 37.55 + (i - 9) * 0.0001;
+            lng[i] = lng[9];
+        }
+
+        assertArrayEquals(new int[]{0, 9, 19}, GeoUtils.simplify(lat, lng, 20, 3));
+    }
+
+    @Test
+    void simplifyKeepsDeviationsAboveTolerance() {
+        // 가운데 점이 직선에서 약 11m 벗어남
+        double[] lat = {37.55, 37.5501, 37.55};
+        double[] lng = {126.97, 126.9701, 126.9702};
+
+        assertArrayEquals(new int[]{0, 1, 2}, GeoUtils.simplify(lat, lng, 3, 5));
+        assertArrayEquals(new int[]{0, 2}, GeoUtils.simplify(lat, lng, 3, 20));
+    }
+
+    @Test
+    void simplifyWithoutToleranceKeepsAllPoints() {
+        double[] lat = {37.55, 37.55, 37.55, 37.55};
+        double[] lng = {126.97, 126.9701, 126.9702, 126.9703};
+
+        assertArrayEquals(new int[]{0, 1, 2, 3}, GeoUtils.simplify(lat, lng, 4, 0));
+        assertArrayEquals(new int[]{0, 1}, GeoUtils.simplify(lat, lng, 2, 3));
+    }
+}
@@ -77,11 +77,32 @@ const LastMessage = styled.p`
   text-overflow: ellipsis;
 `;
 
+const MetaColumn = styled.div`
+  display: flex;
+  flex-direction: column;
+  align-items: flex-end;
+  gap: 6px;
+  align-self: flex-start;
+  flex-shrink: 0;
+`;
+
 const Timestamp = styled.div`
   font-size: 12px;
   color: ${({ theme }) => theme.colors.secondaryTextColor};
-  align-self: flex-start;
-  flex-shrink: 0;
+`;
+
+const UnreadBadge = styled.span`
+  min-width: 20px;
+  height: 20px;
+  padding: 0 6px;
+  box-sizing: border-box;
+  border-radius: 10px;
+  background-color: ${({ theme }) => theme.colors.primary};
+  color: white;
+  font-size: 12px;
+  font-weight: bold;
+  line-height: 20px;
+  text-align: center;
 `;
 
 const Message = styled.p`
@@ -179,14 +200,21 @@ function ChatListPage() {
                     : "아직 메시지가 없습니다."}
                 </LastMessage>
               </ChatInfo>
-              <Timestamp>
-                {(() => {
-                  const timeStr = chat.lastMessageTime || chat.createdAt;
-                  return timeStr
-                    ? new Date(timeStr).toLocaleDateString("ko-KR")
-                    : "";
-                })()}
-              </Timestamp>
+              <MetaColumn>
+                <Timestamp>
+                  {(() => {
+                    const timeStr = chat.lastMessageTime || chat.createdAt;
+                    return timeStr
+                      ? new Date(timeStr).toLocaleDateString("ko-KR")
+                      : "";
+                  })()}
+                </Timestamp>
+                {!!chat.unreadCount && chat.unreadCount > 0 && (
+                  <UnreadBadge>
+                    {chat.unreadCount > 99 ? "99+" : chat.unreadCount}
+                  </UnreadBadge>
+                )}
+              </MetaColumn>
             </ChatItem>
           );
         })}
@@ -5,7 +5,11 @@ import { IoMenu, IoImage, IoSend, IoLocationSharp } from "react-icons/io5";
 import { type IMessage, type StompSubscription } from "@stomp/stompjs";
 import { useAuth } from "../../context/AuthContext";
 import { useWebSocket } from "../../context/WebSocketContext";
-import { type ChatMessage, MessageTypeValue } from "../../types/chat";
+import {
+  type ChatMessage,
+  type ChatRead,
+  MessageTypeValue,
+} from "../../types/chat";
 import PageLayout, {
   ScrollingContent,
 } from "../../components/layout/PageLayout";
@@ -160,6 +164,7 @@ function ChatRoomPage() {
   const messageListRef = useRef<HTMLDivElement>(null);
   const fileInputRef = useRef<HTMLInputElement>(null); // 파일 input ref
   const [isHistoryLoaded, setIsHistoryLoaded] = useState(false); // 중복 로드 방지
+  const lastReadIdRef = useRef<string | undefined>(undefined); // 마지막으로 읽음 처리한 메시지
 
   // 채팅방 멤버 목록 조회
   const { data: members = [] } = useQuery({
@@ -217,7 +222,21 @@ function ChatRoomPage() {
     };
   }, [chatId, user, isHistoryLoaded, isConnected]); // user와 chatId가 변경될 때마다 재연결
 
-  // 텍스트 메시지 전송 핸들러
+  // 화면에 표시된 마지막 메시지를 읽음 처리 (같은 메시지는 한 번만 전송)
+  useEffect(() => {
+    if (!chatId || !isHistoryLoaded || !isConnected) return;
+    const last = [...messages].reverse().find((msg) => msg.messageId);
+    if (!last || last.messageId === lastReadIdRef.current) return;
+
+    const read: ChatRead = {
+      roomId: Number(chatId),
+      messageId: last.messageId,
+      timestamp: last.timestamp,
+    };
+    publish("/pub/chat/read", read);
+    lastReadIdRef.current = last.messageId;
+  }, [chatId, messages, isHistoryLoaded, isConnected]);
+
   // 텍스트 메시지 전송 핸들러
   const handleSend = () => {
     if (inputValue.trim() && isConnected && user) {
@@ -14,7 +14,11 @@ import SockJS from "sockjs-client";
 import PageLayout from "../../components/layout/PageLayout";
 import Button from "../../components/common/Button";
 import { AuthContext } from "../../context/AuthContext";
-import { type LocationMessage, type Companion } from "../../types/companion";
+import {
+  type LocationMessage,
+  type LocationSnapshot,
+  type Companion,
+} from "../../types/companion";
 import { getToken } from "../../utils/token";
 
 const ControlsWrapper = styled.div`
@@ -205,11 +209,34 @@ const LocationSharePage: React.FC = () => {
         console.log("STOMP 연결 성공");
         stompClientRef.current = client;
 
+        // 스냅샷으로 동행 목록 전체 교체 (내 위치 제외)
+        const applySnapshot = (snapshot: LocationSnapshot) => {
+          const currentUserId = userRef.current?.id;
+          const newMap = new Map<number, Companion>();
+          snapshot.locations.forEach((location) => {
+            const companionId = parseInt(location.userId, 10);
+            if (companionId === currentUserId) return;
+            newMap.set(companionId, {
+              userId: companionId,
+              username: location.userName,
+              position: { lat: location.latitude, lng: location.longitude },
+            });
+          });
+          setCompanions(newMap);
+        };
+
         // 동행 위치 구독
         client.subscribe(
           `/topic/location/${chatRoomId}`,
           (message) => {
-            const newLocation: LocationMessage = JSON.parse(message.body);
+            const payload: LocationMessage | LocationSnapshot = JSON.parse(
+              message.body
+            );
+            if (payload.type === "SNAPSHOT") {
+              applySnapshot(payload);
+              return;
+            }
+            const newLocation = payload;
 
             const receivedUserId = parseInt(newLocation.userId, 10);
 
@@ -242,6 +269,16 @@ const LocationSharePage: React.FC = () => {
           { Authorization: `Bearer ${token}` } // 구독 시 헤더 추가
         );
 
+        // 현재 동행 위치를 한 번 받아옴 (다음 위치 갱신을 기다리지 않도록)
+        const snapshotSubscription = client.subscribe(
+          `/app/location/${chatRoomId}`,
+          (message) => {
+            applySnapshot(JSON.parse(message.body));
+            snapshotSubscription.unsubscribe();
+          },
+          { Authorization: `Bearer ${token}` }
+        );
+
         // 첫 위치 가져오기
         navigator.geolocation.getCurrentPosition(
           (pos) => {
@@ -12,6 +12,8 @@ import {
   IoCheckbox,
   IoSquareOutline,
   IoClose,
+  IoLocation,
+  IoFlag,
 } from "react-icons/io5";
 import PageLayout, {
   ScrollingContent,
@@ -149,6 +151,10 @@ const getIcon = (type: string) => {
       return <IoStar />;
     case "REVIEW_COMMENT":
       return <IoChatboxEllipses />;
+    case "GROUP_DISTANCE":
+      return <IoLocation />;
+    case "PLACE_ARRIVAL":
+      return <IoFlag />;
     default:
       return <IoNotifications />;
   }
@@ -262,6 +268,11 @@ function NotificationListPage() {
       navigate(`/reviews/${noti.referenceId}`);
     } else if (noti.type === "USER_RATED") {
       navigate(`/profile/${user?.id}`);
+    } else if (
+      noti.type === "GROUP_DISTANCE" ||
+      noti.type === "PLACE_ARRIVAL"
+    ) {
+      navigate(`/location/${noti.referenceId}`);
     }
   };
 
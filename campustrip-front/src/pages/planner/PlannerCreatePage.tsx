@@ -19,6 +19,9 @@ interface PlannerDetailRequestDTO {
     plannerOrder: number; 
     day: number; 
     googlePlaceId: string; 
+    placeName: string;
+    latitude: number;
+    longitude: number;
 }
 
 // 전체 저장 요청 Body 구조 
@@ -496,6 +499,9 @@ function PlannerCreatePage() {
                 plannerOrder: place.order, 
                 day: schedule.day, 
                 googlePlaceId: place.googlePlaceId, 
+                placeName: place.placeName,
+                latitude: place.latitude,
+                longitude: place.longitude,
             }))
         );
 
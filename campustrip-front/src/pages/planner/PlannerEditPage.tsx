@@ -751,6 +751,9 @@ function PlannerEditPage() {
                 day: schedule.day, 
                 plannerOrder: place.order, 
                 googlePlaceId: place.googlePlaceId,
+                placeName: place.placeName,
+                latitude: place.latitude,
+                longitude: place.longitude,
             }))
         );
 
@@ -15,10 +15,12 @@ export interface Chat {
   senderName: string;
   lastMessage: string;
   lastMessageTime: string;
+  unreadCount?: number;
   profilePhotoUrl: string[];
 }
 
 export interface ChatMessage {
+  messageId?: string;
   messageType: MessageType;
   roomId: string;
   userName: string;
@@ -28,6 +30,13 @@ export interface ChatMessage {
   timestamp?: string;
 }
 
+// 읽음 처리 요청 (/pub/chat/read), 사용자는 서버가 STOMP 세션에서 확인
+export interface ChatRead {
+  roomId: number;
+  messageId?: string;
+  timestamp?: string;
+}
+
 export interface ChatMember {
   chatId: number;
   userId: number;
@@ -8,6 +8,14 @@ export interface LocationMessage {
   timestamp?: number;
 }
 
+// 그룹 멤버별 마지막 위치 묶음 (서버가 주기적으로, 또는 구독 직후 전송)
+export interface LocationSnapshot {
+  type: "SNAPSHOT";
+  groupId: string;
+  locations: LocationMessage[];
+  timestamp: number;
+}
+
 // 지도에 표시할 동행의 상태 타입
 export interface Companion {
   userId: number;
@@ -5,7 +5,9 @@ export type NotificationType =
   | "APPLICATION_REJECT"
   | "USER_RATED"
   | "REVIEW_COMMENT"
-  | "CHAT_MESSAGE";
+  | "CHAT_MESSAGE"
+  | "GROUP_DISTANCE"
+  | "PLACE_ARRIVAL";
 
 export interface PushNotification {
   id: string;
@@ -5,6 +5,11 @@ export interface PlannerDetailDTO {
 
   // 장소 식별자 (Google Place ID)
   googlePlaceId: string; 
+
+  // 장소 이름/좌표 (동행 도착 알림용, 이전에 저장된 일정은 없음)
+  placeName?: string;
+  latitude?: number;
+  longitude?: number;
 }
 
 /**